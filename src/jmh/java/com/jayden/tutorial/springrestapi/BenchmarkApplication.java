@@ -0,0 +1,30 @@
+package com.jayden.tutorial.springrestapi;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the application on the in-memory H2 test profile with SQL logging turned off.
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String... args) {
+        String[] defaults = {
+            "--server.port=0",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+            "--logging.level.org.springframework.security=WARN"
+        };
+        String[] merged = new String[defaults.length + args.length];
+        System.arraycopy(defaults, 0, merged, 0, defaults.length);
+        System.arraycopy(args, 0, merged, defaults.length, args.length);
+
+        return new SpringApplicationBuilder(SpringRestApiApplication.class)
+            .profiles("test")
+            .run(merged);
+    }
+}
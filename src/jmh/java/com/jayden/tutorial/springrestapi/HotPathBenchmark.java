@@ -0,0 +1,177 @@
+package com.jayden.tutorial.springrestapi;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayden.tutorial.springrestapi.domain.AccountAdapter;
+import com.jayden.tutorial.springrestapi.domain.account.Account;
+import com.jayden.tutorial.springrestapi.domain.account.AccountRole;
+import com.jayden.tutorial.springrestapi.domain.event.Event;
+import com.jayden.tutorial.springrestapi.domain.event.EventDto;
+import com.jayden.tutorial.springrestapi.domain.event.EventResource;
+import com.jayden.tutorial.springrestapi.domain.event.EventStatus;
+import com.jayden.tutorial.springrestapi.domain.event.EventValidator;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.Resource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Components every event request goes through, measured one by one with the application's own object mappers.
+ * Run with {@code -prof gc} so each result also reports {@code gc.alloc.rate.norm}, the bytes allocated per
+ * operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HotPathBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ConfigurableApplicationContext context;
+
+    private ObjectMapper objectMapper;
+
+    private ObjectMapper halObjectMapper;
+
+    private EventValidator eventValidator;
+
+    private ModelMapper modelMapper;
+
+    private Account account;
+
+    private Event event;
+
+    private EventDto eventDto;
+
+    private EventDto invalidEventDto;
+
+    private Errors errors;
+
+    private EventResource eventResource;
+
+    private PagedResources<Resource<Event>> pagedResources;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkApplication.start();
+        this.objectMapper = context.getBean(ObjectMapper.class);
+        this.halObjectMapper = context.getBean("_halObjectMapper", ObjectMapper.class);
+        this.eventValidator = context.getBean(EventValidator.class);
+        this.modelMapper = new ModelMapper();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.setServerName("localhost");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        this.account = Account.builder()
+            .id(1L)
+            .email("user@email.com")
+            .password("{noop}1234")
+            .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+            .build();
+        this.eventDto = EventDto.builder()
+            .name("Spring")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2019, 10, 1, 0, 0, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2019, 10, 2, 23, 59, 59))
+            .beginEventDateTime(LocalDateTime.of(2019, 11, 1, 10, 0, 0))
+            .endEventDateTime(LocalDateTime.of(2019, 11, 2, 18, 0, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("D2 Startup Factory")
+            .build();
+        this.invalidEventDto = this.modelMapper.map(this.eventDto, EventDto.class);
+        this.invalidEventDto.setBasePrice(300);
+        this.invalidEventDto.setEndEventDateTime(LocalDateTime.of(2019, 9, 1, 0, 0, 0));
+
+        this.event = event(1);
+        this.errors = new BeanPropertyBindingResult(this.invalidEventDto, "eventDto");
+        this.eventValidator.validate(this.invalidEventDto, this.errors);
+        this.eventResource = new EventResource(this.event);
+        this.eventResource.add(new Link("/docs/index.html#resources-events-get").withRel("profile"));
+
+        List<Resource<Event>> content = IntStream.rangeClosed(1, PAGE_SIZE)
+            .mapToObj(id -> (Resource<Event>) new EventResource(event(id)))
+            .collect(Collectors.toList());
+        this.pagedResources = new PagedResources<>(content, new PagedResources.PageMetadata(PAGE_SIZE, 0, 100));
+        this.pagedResources.add(new Link("http://localhost:8080/api/events?page=0&size=20").withSelfRel());
+        this.pagedResources.add(new Link("/docs/index.html#resources-events-list").withRel("profile"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        this.context.close();
+    }
+
+    @Benchmark
+    public byte[] errorSerializer() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.errors);
+    }
+
+    @Benchmark
+    public byte[] eventResourceSerialization() throws JsonProcessingException {
+        return this.halObjectMapper.writeValueAsBytes(this.eventResource);
+    }
+
+    @Benchmark
+    public byte[] pagedResourcesSerialization() throws JsonProcessingException {
+        return this.halObjectMapper.writeValueAsBytes(this.pagedResources);
+    }
+
+    @Benchmark
+    public EventResource eventResourceConstruction() {
+        return new EventResource(this.event);
+    }
+
+    @Benchmark
+    public Errors eventValidator() {
+        Errors errors = new BeanPropertyBindingResult(this.invalidEventDto, "eventDto");
+        this.eventValidator.validate(this.invalidEventDto, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Event eventUpdate() {
+        this.event.update();
+        return this.event;
+    }
+
+    @Benchmark
+    public AccountAdapter accountAdapter() {
+        return new AccountAdapter(this.account);
+    }
+
+    @Benchmark
+    public Event modelMapperEventDto() {
+        return this.modelMapper.map(this.eventDto, Event.class);
+    }
+
+    private Event event(long id) {
+        Event event = this.modelMapper.map(this.eventDto, Event.class);
+        event.setId(id);
+        event.setEventStatus(EventStatus.DRAFT);
+        event.setManager(this.account);
+        event.update();
+        return event;
+    }
+}
@@ -0,0 +1,92 @@
+package com.jayden.tutorial.springrestapi.common.logging;
+
+import com.jayden.tutorial.springrestapi.SpringRestApiApplication;
+import com.jayden.tutorial.springrestapi.domain.event.Event;
+import com.jayden.tutorial.springrestapi.domain.event.EventStatus;
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@code GET /api/events} over real HTTP under each logging profile. {@code default} logs every
+ * statement and its bound parameters synchronously, {@code prod} keeps SQL logging off and writes only slow
+ * queries and requests through the async appender. The application is not started through
+ * {@code BenchmarkApplication}, which turns logging off; console output is part of what is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+public class LoggingProfileBenchmark {
+
+    @Param({"default", "prod"})
+    String logging;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient httpClient;
+
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(SpringRestApiApplication.class);
+        builder = "prod".equals(logging) ? builder.profiles("test", "prod") : builder.profiles("test");
+        this.context = builder.run("--server.port=0", "--my-app.second-level-cache=false");
+
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Event event = Event.builder()
+                .name("event " + i)
+                .description("logging benchmark event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2019, 10, 1, 0, 0, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2019, 10, 2, 23, 59, 59))
+                .beginEventDateTime(LocalDateTime.of(2019, 11, 1, 10, 0, 0))
+                .endEventDateTime(LocalDateTime.of(2019, 11, 2, 18, 0, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("D2 Startup Factory")
+                .eventStatus(EventStatus.PUBLISHED)
+                .build();
+            event.update();
+            events.add(event);
+        }
+        this.context.getBean(EventRepository.class).saveAll(events);
+
+        String port = this.context.getEnvironment().getProperty("local.server.port");
+        this.httpClient = HttpClient.newHttpClient();
+        this.request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events?page=1&size=10&sort=name,DESC"))
+            .header("Accept", "application/hal+json")
+            .GET()
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public int getEvents() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = this.httpClient.send(this.request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /api/events returned " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
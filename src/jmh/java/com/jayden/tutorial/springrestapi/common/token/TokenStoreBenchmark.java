@@ -0,0 +1,101 @@
+package com.jayden.tutorial.springrestapi.common.token;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.InMemoryTokenStore;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent comparison of {@link ExpiringTokenStore} and {@link InMemoryTokenStore}: eight threads mix
+ * resource-server reads against a pre-filled store with token issuance (store, then remove), which is where
+ * the in-memory store pays for its periodic expiry flush. Run with {@code -prof gc} to compare retained
+ * allocation per token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class TokenStoreBenchmark {
+
+    private static final int PREFILLED = 100_000;
+
+    @Param({"inMemory", "expiring"})
+    String store;
+
+    private TokenStore tokenStore;
+
+    private String[] tokenValues;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.tokenStore = "inMemory".equals(store) ? new InMemoryTokenStore() : new ExpiringTokenStore(PREFILLED * 2);
+        this.tokenValues = new String[PREFILLED];
+        for (int i = 0; i < PREFILLED; i++) {
+            OAuth2AccessToken token = accessToken();
+            this.tokenValues[i] = token.getValue();
+            this.tokenStore.storeAccessToken(token, authentication("user" + i + "@email.com"));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (this.tokenStore instanceof ExpiringTokenStore) {
+            ((ExpiringTokenStore) this.tokenStore).destroy();
+        }
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(7)
+    public OAuth2Authentication readAuthentication() {
+        String value = this.tokenValues[ThreadLocalRandom.current().nextInt(PREFILLED)];
+        return this.tokenStore.readAuthentication(value);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public OAuth2AccessToken issueToken() {
+        OAuth2AccessToken token = accessToken();
+        OAuth2Authentication authentication = authentication(token.getValue() + "@email.com");
+        this.tokenStore.storeAccessToken(token, authentication);
+        OAuth2AccessToken stored = this.tokenStore.getAccessToken(authentication);
+        this.tokenStore.removeAccessToken(token);
+        return stored;
+    }
+
+    @Benchmark
+    public OAuth2Authentication readOnly() {
+        return readAuthentication();
+    }
+
+    private static OAuth2AccessToken accessToken() {
+        DefaultOAuth2AccessToken token = new DefaultOAuth2AccessToken(UUID.randomUUID().toString());
+        token.setExpiration(new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10)));
+        return token;
+    }
+
+    private static OAuth2Authentication authentication(String username) {
+        Map<String, String> parameters = Map.of("grant_type", "password", "username", username);
+        OAuth2Request request = new OAuth2Request(parameters, "myApp", AuthorityUtils.NO_AUTHORITIES, true,
+            Set.of("read", "write"), null, null, null, null);
+        UsernamePasswordAuthenticationToken user = new UsernamePasswordAuthenticationToken(username, null,
+            AuthorityUtils.createAuthorityList("ROLE_USER"));
+        return new OAuth2Authentication(request, user);
+    }
+}
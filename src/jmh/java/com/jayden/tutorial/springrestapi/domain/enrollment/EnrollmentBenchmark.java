@@ -0,0 +1,77 @@
+package com.jayden.tutorial.springrestapi.domain.enrollment;
+
+import com.jayden.tutorial.springrestapi.BenchmarkApplication;
+import com.jayden.tutorial.springrestapi.domain.account.Account;
+import com.jayden.tutorial.springrestapi.domain.enrollment.infra.EnrollmentRepository;
+import com.jayden.tutorial.springrestapi.domain.event.Event;
+import com.jayden.tutorial.springrestapi.domain.event.EventStatus;
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission throughput of 32 threads enrolling distinct accounts on one event, on the H2 test profile. Every
+ * iteration opens a fresh event with {@code seats} seats, so the first requests take seats through the conditional
+ * update and the rest of the iteration measures the waitlist path of a sold out event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(32)
+@Fork(1)
+public class EnrollmentBenchmark {
+
+    @Param({"100", "10000"})
+    int seats;
+
+    private ConfigurableApplicationContext context;
+
+    private EventRepository eventRepository;
+
+    private EnrollmentRepository enrollmentRepository;
+
+    private EnrollmentService enrollmentService;
+
+    private final AtomicLong accountIds = new AtomicLong();
+
+    private volatile Long eventId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkApplication.start();
+        this.eventRepository = context.getBean(EventRepository.class);
+        this.enrollmentRepository = context.getBean(EnrollmentRepository.class);
+        this.enrollmentService = context.getBean(EnrollmentService.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void openEvent() {
+        this.eventId = this.eventRepository.save(Event.builder()
+            .name("ticket drop")
+            .limitOfEnrollment(seats)
+            .eventStatus(EventStatus.BEGAN_ENROLLMENT)
+            .build()).getId();
+    }
+
+    @TearDown(Level.Iteration)
+    public void cleanUp() {
+        this.enrollmentRepository.deleteAllInBatch();
+        this.eventRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public EnrollmentService.Result enroll() {
+        Account account = Account.builder().id(this.accountIds.incrementAndGet()).build();
+        return this.enrollmentService.enroll(this.eventId, account);
+    }
+}
@@ -0,0 +1,116 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayden.tutorial.springrestapi.BenchmarkApplication;
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single-row POST path (validate, map and save one event per transaction) against bulk NDJSON
+ * ingestion with JDBC batching, both on the H2 test profile. One operation writes {@code rows} events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EventIngestBenchmark {
+
+    @Param({"100", "1000"})
+    int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private EventRepository eventRepository;
+
+    private EventBulkImporter eventBulkImporter;
+
+    private EventValidator eventValidator;
+
+    private SpringValidatorAdapter validator;
+
+    private EventMapper eventMapper;
+
+    private List<EventDto> eventDtos;
+
+    private byte[] ndjson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.context = BenchmarkApplication.start();
+        this.eventRepository = context.getBean(EventRepository.class);
+        this.eventBulkImporter = context.getBean(EventBulkImporter.class);
+        this.eventValidator = context.getBean(EventValidator.class);
+        this.validator = new SpringValidatorAdapter(context.getBean(Validator.class));
+        this.eventMapper = context.getBean(EventMapper.class);
+
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        this.eventDtos = new ArrayList<>(rows);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for (int i = 0; i < rows; i++) {
+            EventDto eventDto = eventDto(i);
+            this.eventDtos.add(eventDto);
+            outputStream.write(objectMapper.writeValueAsBytes(eventDto));
+            outputStream.write('\n');
+        }
+        this.ndjson = outputStream.toByteArray();
+    }
+
+    @TearDown(Level.Iteration)
+    public void cleanUp() {
+        this.eventRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public int singleRowPost() {
+        for (EventDto eventDto : this.eventDtos) {
+            Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+            this.validator.validate(eventDto, errors);
+            this.eventValidator.validate(eventDto, errors);
+
+            Event event = this.eventMapper.toEvent(eventDto);
+            event.update();
+            this.eventRepository.save(event);
+        }
+        return this.eventDtos.size();
+    }
+
+    @Benchmark
+    public int bulkIngest() throws IOException {
+        return this.eventBulkImporter.importEvents(new ByteArrayInputStream(this.ndjson), null).getCreated();
+    }
+
+    private EventDto eventDto(int index) {
+        return EventDto.builder()
+            .name("event " + index)
+            .description("benchmark event")
+            .beginEnrollmentDateTime(LocalDateTime.of(2019, 10, 1, 0, 0, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2019, 10, 2, 23, 59, 59))
+            .beginEventDateTime(LocalDateTime.of(2019, 11, 1, 10, 0, 0))
+            .endEventDateTime(LocalDateTime.of(2019, 11, 2, 18, 0, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("D2 Startup Factory")
+            .build();
+    }
+}
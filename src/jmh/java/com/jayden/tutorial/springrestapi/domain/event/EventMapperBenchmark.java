@@ -0,0 +1,69 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EventMapper} against the ModelMapper calls it replaced, for both a new event and an update in place.
+ * Run with {@code -prof gc} to compare allocation per mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventMapperBenchmark {
+
+    private ModelMapper modelMapper;
+
+    private EventMapper eventMapper;
+
+    private EventDto eventDto;
+
+    private Event existingEvent;
+
+    @Setup
+    public void setUp() {
+        this.modelMapper = new ModelMapper();
+        this.eventMapper = new EventMapper();
+        this.eventDto = EventDto.builder()
+            .name("Spring")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2019, 10, 1, 0, 0, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2019, 10, 2, 23, 59, 59))
+            .beginEventDateTime(LocalDateTime.of(2019, 11, 1, 10, 0, 0))
+            .endEventDateTime(LocalDateTime.of(2019, 11, 2, 18, 0, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("D2 Startup Factory")
+            .build();
+        this.existingEvent = new Event();
+    }
+
+    @Benchmark
+    public Event modelMapperToEvent() {
+        return this.modelMapper.map(this.eventDto, Event.class);
+    }
+
+    @Benchmark
+    public Event eventMapperToEvent() {
+        return this.eventMapper.toEvent(this.eventDto);
+    }
+
+    @Benchmark
+    public Event modelMapperUpdate() {
+        this.modelMapper.map(this.eventDto, this.existingEvent);
+        return this.existingEvent;
+    }
+
+    @Benchmark
+    public Event eventMapperUpdate() {
+        this.eventMapper.update(this.eventDto, this.existingEvent);
+        return this.existingEvent;
+    }
+}
@@ -0,0 +1,75 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EventStatusTimeline} holding 1M scheduled transitions spread over 30 days. {@code tick} is one scheduler
+ * wake-up a minute later, taking what fell due and scheduling as many new transitions so the size stays put;
+ * {@code seed} is the startup load of the whole timeline in one heap rebuild.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class EventStatusTimelineBenchmark {
+
+    private static final long HORIZON_MILLIS = TimeUnit.DAYS.toMillis(30);
+
+    private static final long TICK_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    @Param("1000000")
+    private int events;
+
+    private List<EventStatusTimeline.Transition> transitions;
+
+    private EventStatusTimeline timeline;
+
+    private SplittableRandom random;
+
+    private long now;
+
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.random = new SplittableRandom(42);
+        this.transitions = new ArrayList<>(this.events);
+        for (long id = 1; id <= this.events; id++) {
+            this.transitions.add(transition(id, this.random.nextLong(HORIZON_MILLIS)));
+        }
+        this.timeline = new EventStatusTimeline();
+        this.timeline.scheduleAll(this.transitions);
+        this.nextId = this.events + 1;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int tick() {
+        this.now += TICK_MILLIS;
+        List<EventStatusTimeline.Transition> due = this.timeline.pollDue(this.now, EventStatusScheduler.MAX_IDS_PER_UPDATE);
+        for (int i = 0; i < due.size(); i++) {
+            this.timeline.schedule(transition(this.nextId++, this.now + this.random.nextLong(HORIZON_MILLIS)));
+        }
+        return due.size();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public EventStatusTimeline seed() {
+        EventStatusTimeline seeded = new EventStatusTimeline();
+        seeded.scheduleAll(this.transitions);
+        return seeded;
+    }
+
+    private static EventStatusTimeline.Transition transition(long id, long dueMillis) {
+        EventStatus target = (id & 1) == 0 ? EventStatus.BEGAN_ENROLLMENT : EventStatus.CLOSED_ENROLLMENT;
+        return new EventStatusTimeline.Transition(id, target, dueMillis);
+    }
+}
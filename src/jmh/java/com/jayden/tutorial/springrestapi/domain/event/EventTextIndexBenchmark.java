@@ -0,0 +1,101 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of {@link EventTextIndex} over synthetic events built from a small vocabulary, so common terms
+ * have long posting lists. The index is built once per trial with {@code indexAll}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class EventTextIndexBenchmark {
+
+    private static final String[] WORDS = {
+        "spring", "boot", "rest", "api", "java", "kotlin", "jpa", "hibernate", "security", "oauth",
+        "cloud", "batch", "data", "test", "docs", "meetup", "workshop", "seminar", "study", "conference",
+        "gangnam", "magok", "pangyo", "seoul", "busan", "beginner", "advanced", "live", "coding", "review"
+    };
+
+    @Param("1000000")
+    private int documents;
+
+    private EventTextIndex eventTextIndex;
+
+    private final Pageable firstPage = PageRequest.of(0, 20);
+
+    private final Pageable deepPage = PageRequest.of(50, 20);
+
+    private long nextId;
+
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.random = new SplittableRandom(42);
+        this.eventTextIndex = new EventTextIndex();
+        List<Event> events = new ArrayList<>(this.documents);
+        for (long id = 1; id <= this.documents; id++) {
+            events.add(event(id));
+        }
+        this.eventTextIndex.indexAll(events);
+        this.nextId = this.documents + 1;
+    }
+
+    @Benchmark
+    public Page<Long> termQuery() {
+        return this.eventTextIndex.search("hibernate", this.firstPage);
+    }
+
+    @Benchmark
+    public Page<Long> twoTermQuery() {
+        return this.eventTextIndex.search("spring workshop", this.firstPage);
+    }
+
+    @Benchmark
+    public Page<Long> prefixQuery() {
+        return this.eventTextIndex.search("sp*", this.firstPage);
+    }
+
+    @Benchmark
+    public Page<Long> deepPageQuery() {
+        return this.eventTextIndex.search("spring workshop", this.deepPage);
+    }
+
+    @Benchmark
+    public void indexNewEvent() {
+        this.eventTextIndex.index(event(this.nextId++));
+    }
+
+    private Event event(long id) {
+        Event event = Event.builder()
+            .id(id)
+            .name(words(3) + " " + id)
+            .description(words(12))
+            .build();
+        event.setVersion(0L);
+        return event;
+    }
+
+    private String words(int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[this.random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.jayden.tutorial.springrestapi.BenchmarkApplication;
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request thread cost of creating an event under a burst of 16 concurrent clients: the synchronous path
+ * (validate, map, insert, index) against write-behind (validate, map, enqueue). Throughput is per request thread
+ * and sample time gives the latency distribution; write-behind operations include those rejected with 429.
+ * The queue is drained between iterations so every iteration starts empty.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class EventWriteBehindBenchmark {
+
+    private ConfigurableApplicationContext context;
+
+    private EventRepository eventRepository;
+
+    private EventValidator eventValidator;
+
+    private SpringValidatorAdapter validator;
+
+    private EventMapper eventMapper;
+
+    private EventTextIndex eventTextIndex;
+
+    private EventWriteQueue eventWriteQueue;
+
+    private EventDto eventDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkApplication.start("--my-app.event-write-behind=true");
+        this.eventRepository = context.getBean(EventRepository.class);
+        this.eventValidator = context.getBean(EventValidator.class);
+        this.validator = new SpringValidatorAdapter(context.getBean(Validator.class));
+        this.eventMapper = context.getBean(EventMapper.class);
+        this.eventTextIndex = context.getBean(EventTextIndex.class);
+        this.eventWriteQueue = context.getBean(EventWriteQueue.class);
+        this.eventDto = EventDto.builder()
+            .name("burst event")
+            .description("write-behind benchmark event")
+            .beginEnrollmentDateTime(LocalDateTime.of(2019, 10, 1, 0, 0, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2019, 10, 2, 23, 59, 59))
+            .beginEventDateTime(LocalDateTime.of(2019, 11, 1, 10, 0, 0))
+            .endEventDateTime(LocalDateTime.of(2019, 11, 2, 18, 0, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("D2 Startup Factory")
+            .build();
+    }
+
+    @TearDown(Level.Iteration)
+    public void cleanUp() throws InterruptedException {
+        while (this.eventWriteQueue.size() > 0) {
+            Thread.sleep(10);
+        }
+        this.eventRepository.deleteAllInBatch();
+        this.eventTextIndex.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public Event synchronous() {
+        Event event = validatedEvent();
+        Event savedEvent = this.eventRepository.save(event);
+        this.eventTextIndex.index(savedEvent);
+        return savedEvent;
+    }
+
+    @Benchmark
+    public Optional<EventWriteTicket> writeBehind() {
+        return this.eventWriteQueue.offer(validatedEvent());
+    }
+
+    private Event validatedEvent() {
+        Errors errors = new BeanPropertyBindingResult(this.eventDto, "eventDto");
+        this.validator.validate(this.eventDto, errors);
+        this.eventValidator.validate(this.eventDto, errors);
+
+        Event event = this.eventMapper.toEvent(this.eventDto);
+        event.update();
+        return event;
+    }
+}
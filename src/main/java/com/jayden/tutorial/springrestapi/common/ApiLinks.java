@@ -0,0 +1,133 @@
+package com.jayden.tutorial.springrestapi.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jayden.tutorial.springrestapi.controller.EventController;
+import com.jayden.tutorial.springrestapi.index.IndexController;
+import org.springframework.hateoas.Link;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.http.HttpServletRequest;
+
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.methodOn;
+
+/**
+ * Links to the index and event resources without {@code linkTo} on every call. The base URIs are resolved through
+ * {@code linkTo} once per distinct request origin (scheme, host, port, context path, servlet mapping prefix and
+ * forwarded headers) and cached, so the output is exactly what {@code linkTo} produces; per-event links are then plain
+ * string concatenation.
+ */
+public final class ApiLinks {
+
+    private static final String[] ORIGIN_HEADERS = {
+        "Forwarded", "X-Forwarded-Host", "X-Forwarded-Port", "X-Forwarded-Proto", "X-Forwarded-Prefix",
+        "X-Forwarded-Ssl"
+    };
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    /**
+     * bounded because the key includes client supplied headers
+     */
+    private static final Cache<String, Bases> BASES = Caffeine.newBuilder()
+        .maximumSize(256)
+        .build();
+
+    private ApiLinks() {
+    }
+
+    public static Link index(String rel) {
+        return new Link(bases().index, rel);
+    }
+
+    public static Link events(String rel) {
+        return new Link(eventsHref(), rel);
+    }
+
+    public static Link event(Long id, String rel) {
+        return new Link(eventHref(id), rel);
+    }
+
+    public static String eventsHref() {
+        return bases().events;
+    }
+
+    public static String eventHref(Long id) {
+        return bases().events + "/" + id;
+    }
+
+    public static Link enrollment(Long eventId, Long id, String rel) {
+        return new Link(enrollmentHref(eventId, id), rel);
+    }
+
+    public static String enrollmentHref(Long eventId, Long id) {
+        return bases().events + "/" + eventId + "/enrollments/" + id;
+    }
+
+    public static Link eventWrite(String ticket, String rel) {
+        return new Link(eventWriteHref(ticket), rel);
+    }
+
+    public static String eventWriteHref(String ticket) {
+        return bases().events + "/writes/" + ticket;
+    }
+
+    private static Bases bases() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return Bases.resolve();
+        }
+        return BASES.get(originOf(((ServletRequestAttributes) attributes).getRequest()), key -> Bases.resolve());
+    }
+
+    private static String originOf(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(64)
+            .append(request.getScheme()).append('|')
+            .append(request.getServerName()).append('|')
+            .append(request.getServerPort()).append('|')
+            .append(request.getContextPath()).append('|')
+            .append(servletMappingOf(request));
+        for (String header : ORIGIN_HEADERS) {
+            String value = request.getHeader(header);
+            if (value != null) {
+                key.append('|').append(header).append('=').append(value);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * The servlet path is part of the links only when the servlet is mapped by prefix, as in
+     * {@code ServletUriComponentsBuilder.fromServletMapping}; under the default mapping it is the whole request path.
+     */
+    private static String servletMappingOf(HttpServletRequest request) {
+        return StringUtils.hasText(URL_PATH_HELPER.getPathWithinServletMapping(request)) ? request.getServletPath() : "";
+    }
+
+    static long cachedOrigins() {
+        BASES.cleanUp();
+        return BASES.estimatedSize();
+    }
+
+    private static final class Bases {
+
+        private final String index;
+
+        private final String events;
+
+        private Bases(String index, String events) {
+            this.index = index;
+            this.events = events;
+        }
+
+        private static Bases resolve() {
+            return new Bases(linkTo(methodOn(IndexController.class).index()).toString(),
+                linkTo(EventController.class).toString());
+        }
+    }
+}
@@ -3,9 +3,12 @@ package com.jayden.tutorial.springrestapi.common;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
 import javax.validation.constraints.NotEmpty;
+import java.util.ArrayList;
+import java.util.List;
 
 @Component
 @ConfigurationProperties(prefix = "my-app")
@@ -29,4 +32,162 @@ public class AppProperties {
 
     @NotEmpty
     private String clientSecret;
+
+    /**
+     * how long an approximate event total may be served before it is refreshed in the background
+     */
+    private long eventCountCacheSeconds = 5;
+
+    /**
+     * number of exported rows after which the persistence context is cleared
+     */
+    private int exportClearInterval = 1000;
+
+    /**
+     * number of events loaded per page while building the text search index
+     */
+    private int textIndexBatchSize = 1000;
+
+    /**
+     * rows per JDBC insert batch for bulk ingestion, also used as hibernate.jdbc.batch_size
+     */
+    private int eventBatchSize = 50;
+
+    /**
+     * POST /api/events only validates and queues the event, answering 202 with a ticket, see EventWriteQueue
+     */
+    private boolean eventWriteBehind;
+
+    /**
+     * events the write-behind queue holds before new ones are rejected with 429
+     */
+    private int eventWriteQueueCapacity = 10_000;
+
+    /**
+     * how long the status of a queued event can be looked up
+     */
+    private long eventWriteTicketSeconds = 300;
+
+    /**
+     * how often due event status transitions are applied, zero or negative only applies them at startup
+     */
+    private long eventStatusTickMillis = 1_000;
+
+    /**
+     * counters the enrollment permits of one event are split over
+     */
+    private int enrollmentPermitStripes = 16;
+
+    /**
+     * how long enrollment permits are used before they are reloaded from the free seats of the event
+     */
+    private long enrollmentPermitSeconds = 10;
+
+    /**
+     * maximum number of accounts kept by the principal cache
+     */
+    private long accountCacheSize = 10_000;
+
+    /**
+     * how long a cached account is served before it is loaded again
+     */
+    private long accountCacheTtlSeconds = 300;
+
+    /**
+     * maximum number of access tokens, and separately refresh tokens, kept by the token store
+     */
+    private int tokenStoreCapacity = 100_000;
+
+    /**
+     * bcrypt cost for new hashes, stored hashes of another cost are rehashed on the next login
+     */
+    private int passwordStrength = 10;
+
+    /**
+     * threads that hash and verify passwords
+     */
+    private int passwordHashThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * password checks allowed to wait for a hashing thread before new ones are rejected with 503
+     */
+    private int passwordHashQueueCapacity = 64;
+
+    /**
+     * how long a request waits for its password check before it is rejected with 503
+     */
+    private long passwordHashTimeoutMillis = 2_000;
+
+    /**
+     * how long a verified client secret is accepted without hashing it again
+     */
+    private long clientCredentialsCacheSeconds = 60;
+
+    /**
+     * write event responses with the hand-written serializers instead of bean introspection
+     */
+    private boolean streamingSerializers;
+
+    /**
+     * statements running at least this long are logged with their SQL and endpoint, negative turns the log off
+     */
+    private long slowQueryMillis = -1;
+
+    /**
+     * requests taking at least this long are logged with their endpoint and SQL count, negative turns the log off
+     */
+    private long slowRequestMillis = -1;
+
+    /**
+     * count the SQL statements of each request, for the request log and {@code http.server.requests.statements}
+     */
+    private boolean sqlMetrics;
+
+    /**
+     * collect the factory-wide Hibernate statistics behind the {@code hibernate_*} metrics
+     */
+    private boolean hibernateStatistics;
+
+    private final Jwt jwt = new Jwt();
+
+    private final Replicas replicas = new Replicas();
+
+    @Getter @Setter
+    public static class Jwt {
+
+        /**
+         * issue signed, self-contained access tokens instead of keeping them in the token store
+         */
+        private boolean enabled;
+
+        /**
+         * JKS key store holding the signing key pair, a key pair is generated at startup when absent
+         */
+        private Resource keyStore;
+
+        private String keyStorePassword;
+
+        private String keyAlias;
+    }
+
+    @Getter @Setter
+    public static class Replicas {
+
+        /**
+         * JDBC URLs of the read replicas, read-only transactions of GET requests are spread over them
+         */
+        private List<String> urls = new ArrayList<>();
+
+        /**
+         * replica credentials, those of spring.datasource when absent
+         */
+        private String username;
+
+        private String password;
+
+        /**
+         * how long a user's reads stay on the primary after the user's last write
+         */
+        private long readYourWritesSeconds = 5;
+    }
 }
@@ -1,17 +1,13 @@
 package com.jayden.tutorial.springrestapi.common;
 
-import com.jayden.tutorial.springrestapi.index.IndexController;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.validation.Errors;
 
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.methodOn;
-
 public class ErrorResource extends Resource<Errors> {
 
     public ErrorResource(Errors content, Link... links) {
         super(content, links);
-        add(linkTo(methodOn(IndexController.class).index()).withRel("index"));
+        add(ApiLinks.index("index"));
     }
 }
@@ -0,0 +1,138 @@
+package com.jayden.tutorial.springrestapi.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the replicas, round robin, and everything else to the primary.
+ *
+ * A read-only transaction stays on the primary when it belongs to a request other than GET or HEAD, so an update
+ * never checks versions against a lagging replica, and when the authenticated user committed a write within the
+ * read-your-writes window, so users see their own changes right away. The route is decided when the first
+ * statement needs a connection, which requires a {@link LazyConnectionDataSourceProxy} in front of this data
+ * source; the read-only flag is not yet known when the transaction begins.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    public static final String REPLICA_PREFIX = "replica-";
+
+    private static final String METRIC_NAME = "datasource.routes";
+
+    private final Map<String, DataSource> targets = new HashMap<>();
+
+    private final String[] replicas;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    private final Map<String, Counter> routeCounters = new HashMap<>();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration readYourWritesWindow,
+                                      MeterRegistry meterRegistry) {
+        this.targets.put(PRIMARY, primary);
+        this.replicas = new String[replicas.size()];
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas[i] = REPLICA_PREFIX + i;
+            this.targets.put(this.replicas[i], replicas.get(i));
+        }
+        for (String route : this.targets.keySet()) {
+            this.routeCounters.put(route, Counter.builder(METRIC_NAME)
+                .description("Connections handed out per data source route")
+                .tag("route", route)
+                .register(meterRegistry));
+        }
+        this.recentWriters = Caffeine.newBuilder()
+            .expireAfterWrite(readYourWritesWindow.toMillis(), TimeUnit.MILLISECONDS)
+            .build();
+
+        setTargetDataSources(new HashMap<>(this.targets));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String route = route();
+        this.routeCounters.get(route).increment();
+        return route;
+    }
+
+    private String route() {
+        String username = currentUsername();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriteOnCommit(username);
+            return PRIMARY;
+        }
+        if (this.replicas.length == 0 || !isSafeRequest()
+                || (username != null && this.recentWriters.getIfPresent(username) != null)) {
+            return PRIMARY;
+        }
+        return this.replicas[Math.floorMod(this.next.getAndIncrement(), this.replicas.length)];
+    }
+
+    private void rememberWriteOnCommit(String username) {
+        if (username == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+            @Override
+            public void afterCommit() {
+                recentWriters.put(username, Boolean.TRUE);
+            }
+        });
+    }
+
+    /**
+     * Read-only work outside of a request, like rebuilding the search index, may use a replica.
+     */
+    private static boolean isSafeRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return true;
+        }
+        String method = ((ServletRequestAttributes) attributes).getRequest().getMethod();
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource target : this.targets.values()) {
+            if (target instanceof AutoCloseable) {
+                ((AutoCloseable) target).close();
+            }
+        }
+    }
+}
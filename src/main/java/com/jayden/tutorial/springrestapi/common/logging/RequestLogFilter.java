@@ -0,0 +1,58 @@
+package com.jayden.tutorial.springrestapi.common.logging;
+
+import com.jayden.tutorial.springrestapi.common.metrics.SqlStatementCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Puts the endpoint and the running SQL statement count of the request into the MDC, and logs a single line for
+ * requests slower than the threshold. Nothing is logged for requests under the threshold; a negative threshold
+ * turns the slow request log off.
+ */
+@Slf4j
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    public static final String ENDPOINT_MDC_KEY = "endpoint";
+
+    private final long slowRequestMillis;
+
+    public RequestLogFilter(long slowRequestMillis) {
+        this.slowRequestMillis = slowRequestMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        MDC.put(ENDPOINT_MDC_KEY, request.getMethod() + " " + request.getRequestURI());
+        SqlStatementCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (this.slowRequestMillis >= 0 && elapsedMillis >= this.slowRequestMillis) {
+                log.warn("Slow request {} {} took {} ms, status {}, {} SQL statements", request.getMethod(),
+                    endpoint(request), elapsedMillis, response.getStatus(), SqlStatementCounter.get());
+            }
+            SqlStatementCounter.stop();
+            MDC.remove(ENDPOINT_MDC_KEY);
+        }
+    }
+
+    /**
+     * The mapped pattern when the request reached a handler, so outliers of one endpoint group together.
+     */
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? request.getRequestURI() : pattern.toString();
+    }
+}
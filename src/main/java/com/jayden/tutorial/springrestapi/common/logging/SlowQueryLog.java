@@ -0,0 +1,77 @@
+package com.jayden.tutorial.springrestapi.common.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps a {@link DataSource} so that statements running longer than a threshold are logged with their SQL,
+ * duration and the endpoint of the current request. Bound parameters are never logged and statements under the
+ * threshold cost two {@code nanoTime} calls.
+ */
+@Slf4j
+public final class SlowQueryLog {
+
+    private SlowQueryLog() {
+    }
+
+    public static DataSource wrap(DataSource dataSource, long thresholdMillis) {
+        long thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        return proxy(DataSource.class, dataSource, (proxy, method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            return result instanceof Connection ? connection((Connection) result, thresholdNanos) : result;
+        });
+    }
+
+    private static Connection connection(Connection connection, long thresholdNanos) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+                return statement(method.getReturnType(), (Statement) result, sql, thresholdNanos);
+            }
+            return result;
+        });
+    }
+
+    private static Object statement(Class<?> type, Statement statement, String preparedSql, long thresholdNanos) {
+        return proxy(type, statement, (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (elapsed >= thresholdNanos) {
+                    String sql = preparedSql != null ? preparedSql
+                        : args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : "(batch)";
+                    log.warn("Slow query took {} ms on {}: {}", TimeUnit.NANOSECONDS.toMillis(elapsed),
+                        MDC.get(RequestLogFilter.ENDPOINT_MDC_KEY), sql);
+                }
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SlowQueryLog.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
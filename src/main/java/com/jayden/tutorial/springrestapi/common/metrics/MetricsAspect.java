@@ -0,0 +1,88 @@
+package com.jayden.tutorial.springrestapi.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.repository.Repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every repository call and every token store operation with a percentile histogram.
+ *
+ * Token store operations are tagged by what they serve: storing a token is part of issuing it, reading one is
+ * the check done for each authenticated request, removing one is revocation.
+ */
+@Aspect
+public class MetricsAspect {
+
+    static final String REPOSITORY_METRIC = "repository.invocations";
+
+    static final String TOKEN_STORE_METRIC = "oauth.token.store";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public MetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("this(org.springframework.data.repository.Repository) && execution(public * *(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = this.repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(), MetricsAspect::repositoryName);
+        return time(joinPoint, Timer.builder(REPOSITORY_METRIC)
+            .tag("repository", repository)
+            .tag("method", joinPoint.getSignature().getName()));
+    }
+
+    @Around("this(org.springframework.security.oauth2.provider.token.TokenStore) && execution(public * *(..))")
+    public Object timeTokenStore(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        return time(joinPoint, Timer.builder(TOKEN_STORE_METRIC)
+            .tag("operation", operation(method))
+            .tag("method", method));
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, Timer.Builder builder) throws Throwable {
+        long start = System.nanoTime();
+        String outcome = "SUCCESS";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = "ERROR";
+            throw ex;
+        } finally {
+            builder.tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String repositoryName(Class<?> proxyClass) {
+        for (Class<?> type : proxyClass.getInterfaces()) {
+            if (Repository.class.isAssignableFrom(type)) {
+                return type.getSimpleName();
+            }
+        }
+        return proxyClass.getSimpleName();
+    }
+
+    private static String operation(String method) {
+        if (method.startsWith("store")) {
+            return "issue";
+        }
+        if (method.startsWith("read") || method.startsWith("get") || method.startsWith("find")) {
+            return "check";
+        }
+        if (method.startsWith("remove")) {
+            return "revoke";
+        }
+        return "other";
+    }
+}
@@ -0,0 +1,36 @@
+package com.jayden.tutorial.springrestapi.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTags;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Records the SQL statements of each request as {@code http.server.requests.statements}, tagged like
+ * {@code http.server.requests}, so a latency regression of an endpoint can be matched to its query count.
+ * The count is started by {@link com.jayden.tutorial.springrestapi.common.logging.RequestLogFilter}, so it
+ * includes the statements of the security filters.
+ */
+public class RequestStatementsInterceptor implements HandlerInterceptor {
+
+    static final String METRIC_NAME = "http.server.requests.statements";
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestStatementsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        DistributionSummary.builder(METRIC_NAME)
+            .tags(Tags.of(WebMvcTags.method(request), WebMvcTags.uri(request, response), WebMvcTags.outcome(response)))
+            .publishPercentileHistogram()
+            .register(this.meterRegistry)
+            .record(SqlStatementCounter.get());
+    }
+}
@@ -0,0 +1,55 @@
+package com.jayden.tutorial.springrestapi.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.MDC;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, so each request can report its own
+ * statement count instead of reading the factory-wide {@code Statistics}. While a request is being counted
+ * the running total is also kept in the {@value #MDC_KEY} MDC field.
+ *
+ * Registered with {@code hibernate.session_factory.statement_inspector} when {@code my-app.sql-metrics} is on;
+ * Hibernate creates the instance.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    public static final String MDC_KEY = "sqlCount";
+
+    private static final ThreadLocal<Counter> COUNTER = ThreadLocal.withInitial(Counter::new);
+
+    @Override
+    public String inspect(String sql) {
+        Counter counter = COUNTER.get();
+        counter.count++;
+        if (counter.active) {
+            MDC.put(MDC_KEY, Integer.toString(counter.count));
+        }
+        return sql;
+    }
+
+    /**
+     * Starts counting a request on this thread from zero.
+     */
+    public static void start() {
+        Counter counter = COUNTER.get();
+        counter.count = 0;
+        counter.active = true;
+        MDC.put(MDC_KEY, "0");
+    }
+
+    public static void stop() {
+        COUNTER.get().active = false;
+        MDC.remove(MDC_KEY);
+    }
+
+    public static int get() {
+        return COUNTER.get().count;
+    }
+
+    private static final class Counter {
+
+        private int count;
+
+        private boolean active;
+    }
+}
@@ -0,0 +1,28 @@
+package com.jayden.tutorial.springrestapi.common.password;
+
+import org.springframework.security.oauth2.common.exceptions.OAuth2Exception;
+
+/**
+ * Thrown when the password hashing executor is saturated. The token endpoint renders it as
+ * {@code 503 temporarily_unavailable} so clients back off instead of piling more work onto the queue.
+ */
+public class PasswordHashingUnavailableException extends OAuth2Exception {
+
+    public PasswordHashingUnavailableException(String msg) {
+        super(msg);
+    }
+
+    public PasswordHashingUnavailableException(String msg, Throwable t) {
+        super(msg, t);
+    }
+
+    @Override
+    public String getOAuth2ErrorCode() {
+        return "temporarily_unavailable";
+    }
+
+    @Override
+    public int getHttpErrorCode() {
+        return 503;
+    }
+}
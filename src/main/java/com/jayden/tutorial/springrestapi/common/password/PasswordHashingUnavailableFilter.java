@@ -0,0 +1,43 @@
+package com.jayden.tutorial.springrestapi.common.password;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Client secrets are checked by the token endpoint's basic authentication filter, outside the reach of
+ * {@code TokenEndpoint}'s exception handlers, so a saturated hashing executor is rendered here as an OAuth2
+ * error with status 503.
+ */
+public class PasswordHashingUnavailableFilter extends OncePerRequestFilter {
+
+    private final ObjectMapper objectMapper;
+
+    public PasswordHashingUnavailableFilter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } catch (PasswordHashingUnavailableException ex) {
+            if (response.isCommitted()) {
+                throw ex;
+            }
+            response.resetBuffer();
+            response.setStatus(ex.getHttpErrorCode());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), ex);
+        }
+    }
+}
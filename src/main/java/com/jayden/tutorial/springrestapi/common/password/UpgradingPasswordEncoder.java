@@ -0,0 +1,43 @@
+package com.jayden.tutorial.springrestapi.common.password;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Delegating encoder that encodes with bcrypt at the configured cost and reports every other hash, including
+ * bcrypt hashes of a different cost, as needing an upgrade. The authentication provider then rehashes the
+ * password on the next successful login.
+ */
+public class UpgradingPasswordEncoder extends DelegatingPasswordEncoder {
+
+    private static final String BCRYPT = "bcrypt";
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\{" + BCRYPT + "}\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    private final int strength;
+
+    @SuppressWarnings("deprecation")
+    public UpgradingPasswordEncoder(int strength) {
+        super(BCRYPT, Map.<String, PasswordEncoder>of(
+            BCRYPT, new BCryptPasswordEncoder(strength),
+            "pbkdf2", new Pbkdf2PasswordEncoder(),
+            "noop", NoOpPasswordEncoder.getInstance()));
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
@@ -0,0 +1,64 @@
+package com.jayden.tutorial.springrestapi.common.token;
+
+import com.jayden.tutorial.springrestapi.domain.AccountAdapter;
+import com.jayden.tutorial.springrestapi.domain.account.Account;
+import com.jayden.tutorial.springrestapi.domain.account.AccountRole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.provider.token.DefaultUserAuthenticationConverter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the account id next to the user name and authorities of a token, and rebuilds an
+ * {@link AccountAdapter} from those claims so {@code @CurrentUser} works without loading the account.
+ */
+public class AccountUserAuthenticationConverter extends DefaultUserAuthenticationConverter {
+
+    public static final String ACCOUNT_ID = "account_id";
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    @Override
+    public Map<String, ?> convertUserAuthentication(Authentication authentication) {
+        Map<String, Object> response = new LinkedHashMap<>(super.convertUserAuthentication(authentication));
+        if (authentication.getPrincipal() instanceof AccountAdapter) {
+            response.put(ACCOUNT_ID, ((AccountAdapter) authentication.getPrincipal()).getAccount().getId());
+        }
+        return response;
+    }
+
+    @Override
+    public Authentication extractAuthentication(Map<String, ?> map) {
+        if (!map.containsKey(USERNAME) || !(map.get(ACCOUNT_ID) instanceof Number)) {
+            return super.extractAuthentication(map);
+        }
+        Account account = Account.builder()
+            .id(((Number) map.get(ACCOUNT_ID)).longValue())
+            .email((String) map.get(USERNAME))
+            .password("")
+            .roles(roles(map.get(AUTHORITIES)))
+            .build();
+        AccountAdapter principal = new AccountAdapter(account);
+        return new UsernamePasswordAuthenticationToken(principal, "N/A", principal.getAuthorities());
+    }
+
+    private static Set<AccountRole> roles(Object authorities) {
+        if (!(authorities instanceof Collection)) {
+            return Set.of();
+        }
+        Set<String> known = Arrays.stream(AccountRole.values()).map(Enum::name).collect(Collectors.toSet());
+        return ((Collection<?>) authorities).stream()
+            .map(String::valueOf)
+            .filter(name -> name.startsWith(ROLE_PREFIX))
+            .map(name -> name.substring(ROLE_PREFIX.length()))
+            .filter(known::contains)
+            .map(AccountRole::valueOf)
+            .collect(Collectors.toSet());
+    }
+}
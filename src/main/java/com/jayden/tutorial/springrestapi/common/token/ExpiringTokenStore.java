@@ -0,0 +1,377 @@
+package com.jayden.tutorial.springrestapi.common.token;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.oauth2.common.ExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.AuthenticationKeyGenerator;
+import org.springframework.security.oauth2.provider.token.DefaultAuthenticationKeyGenerator;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * {@link TokenStore} for a single node that replaces {@link
+ * org.springframework.security.oauth2.provider.token.store.InMemoryTokenStore}.
+ *
+ * All state lives in {@link ConcurrentHashMap}s, so reads never block. Expiry is driven by a
+ * {@link HashedTimingWheel} advanced once per tick by a reaper thread instead of a full scan every N writes,
+ * and at most {@code capacity} access and refresh tokens are kept: beyond that the tokens closest to expiry
+ * are evicted first, then tokens without an expiration, oldest first.
+ */
+public class ExpiringTokenStore implements TokenStore, DisposableBean {
+
+    private static final long TICK_MILLIS = 1000;
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final ConcurrentMap<String, AccessEntry> accessTokens = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, String> authenticationToAccess = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, RefreshEntry> refreshTokens = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, String> refreshToAccess = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Set<String>> clientIndex = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Set<String>> userIndex = new ConcurrentHashMap<>();
+
+    /**
+     * tokens without an expiration by insertion order, as they are on no wheel
+     */
+    private final ConcurrentNavigableMap<Long, AccessEntry> unexpiringAccess = new ConcurrentSkipListMap<>();
+
+    private final ConcurrentNavigableMap<Long, RefreshEntry> unexpiringRefresh = new ConcurrentSkipListMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final AuthenticationKeyGenerator authenticationKeyGenerator = new DefaultAuthenticationKeyGenerator();
+
+    private final HashedTimingWheel<AccessEntry> accessWheel;
+
+    private final HashedTimingWheel<RefreshEntry> refreshWheel;
+
+    private final int capacity;
+
+    private final LongSupplier clock;
+
+    private final ScheduledExecutorService reaper;
+
+    public ExpiringTokenStore(int capacity) {
+        this(capacity, System::currentTimeMillis, true);
+    }
+
+    ExpiringTokenStore(int capacity, LongSupplier clock, boolean startReaper) {
+        this.capacity = capacity;
+        this.clock = clock;
+        this.accessWheel = new HashedTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, clock.getAsLong());
+        this.refreshWheel = new HashedTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, clock.getAsLong());
+        if (startReaper) {
+            this.reaper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "token-store-reaper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.reaper.scheduleWithFixedDelay(this::purgeExpired, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        } else {
+            this.reaper = null;
+        }
+    }
+
+    /**
+     * Removes every token whose expiration has passed.
+     */
+    public void purgeExpired() {
+        long now = clock.getAsLong();
+        accessWheel.advance(now, this::removeAccess);
+        refreshWheel.advance(now, this::removeRefresh);
+    }
+
+    public int getAccessTokenCount() {
+        return accessTokens.size();
+    }
+
+    public int getRefreshTokenCount() {
+        return refreshTokens.size();
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(OAuth2AccessToken token) {
+        return readAuthentication(token.getValue());
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(String token) {
+        AccessEntry entry = accessTokens.get(token);
+        return entry == null ? null : entry.authentication.toAuthentication();
+    }
+
+    @Override
+    public void storeAccessToken(OAuth2AccessToken token, OAuth2Authentication authentication) {
+        String userKey = authentication.isClientOnly()
+            ? null : indexKey(authentication.getOAuth2Request().getClientId(), authentication.getName());
+        AccessEntry entry = new AccessEntry(token, StoredAuthentication.of(authentication),
+            authenticationKeyGenerator.extractKey(authentication), userKey);
+
+        AccessEntry previous = accessTokens.put(entry.value, entry);
+        if (previous != null) {
+            unlink(previous);
+        }
+        authenticationToAccess.put(entry.authenticationKey, entry.value);
+        addToIndex(clientIndex, entry.authentication.getClientId(), entry.value);
+        if (userKey != null) {
+            addToIndex(userIndex, userKey, entry.value);
+        }
+        if (token.getRefreshToken() != null) {
+            refreshToAccess.put(token.getRefreshToken().getValue(), entry.value);
+        }
+        if (token.getExpiration() != null) {
+            entry.timeout = accessWheel.schedule(entry, token.getExpiration().getTime());
+        } else {
+            entry.sequence = sequence.incrementAndGet();
+            unexpiringAccess.put(entry.sequence, entry);
+        }
+
+        while (accessTokens.size() > capacity) {
+            AccessEntry victim = accessWheel.pollSoonest();
+            if (victim == null) {
+                victim = pollOldest(unexpiringAccess);
+            }
+            if (victim == null) {
+                break;
+            }
+            removeAccess(victim);
+        }
+    }
+
+    @Override
+    public OAuth2AccessToken readAccessToken(String tokenValue) {
+        AccessEntry entry = accessTokens.get(tokenValue);
+        return entry == null ? null : entry.token;
+    }
+
+    @Override
+    public void removeAccessToken(OAuth2AccessToken token) {
+        AccessEntry entry = accessTokens.remove(token.getValue());
+        if (entry != null) {
+            unlink(entry);
+        }
+    }
+
+    @Override
+    public void storeRefreshToken(OAuth2RefreshToken refreshToken, OAuth2Authentication authentication) {
+        RefreshEntry entry = new RefreshEntry(refreshToken, StoredAuthentication.of(authentication));
+        RefreshEntry previous = refreshTokens.put(entry.value, entry);
+        if (previous != null) {
+            unschedule(previous);
+        }
+        if (refreshToken instanceof ExpiringOAuth2RefreshToken
+                && ((ExpiringOAuth2RefreshToken) refreshToken).getExpiration() != null) {
+            long expiration = ((ExpiringOAuth2RefreshToken) refreshToken).getExpiration().getTime();
+            entry.timeout = refreshWheel.schedule(entry, expiration);
+        } else {
+            entry.sequence = sequence.incrementAndGet();
+            unexpiringRefresh.put(entry.sequence, entry);
+        }
+
+        while (refreshTokens.size() > capacity) {
+            RefreshEntry victim = refreshWheel.pollSoonest();
+            if (victim == null) {
+                victim = pollOldest(unexpiringRefresh);
+            }
+            if (victim == null) {
+                break;
+            }
+            removeRefresh(victim);
+        }
+    }
+
+    @Override
+    public OAuth2RefreshToken readRefreshToken(String tokenValue) {
+        RefreshEntry entry = refreshTokens.get(tokenValue);
+        return entry == null ? null : entry.token;
+    }
+
+    @Override
+    public OAuth2Authentication readAuthenticationForRefreshToken(OAuth2RefreshToken token) {
+        RefreshEntry entry = refreshTokens.get(token.getValue());
+        return entry == null ? null : entry.authentication.toAuthentication();
+    }
+
+    @Override
+    public void removeRefreshToken(OAuth2RefreshToken token) {
+        RefreshEntry entry = refreshTokens.remove(token.getValue());
+        if (entry != null) {
+            unschedule(entry);
+        }
+        refreshToAccess.remove(token.getValue());
+    }
+
+    @Override
+    public void removeAccessTokenUsingRefreshToken(OAuth2RefreshToken refreshToken) {
+        String accessToken = refreshToAccess.remove(refreshToken.getValue());
+        if (accessToken != null) {
+            AccessEntry entry = accessTokens.remove(accessToken);
+            if (entry != null) {
+                unlink(entry);
+            }
+        }
+    }
+
+    @Override
+    public OAuth2AccessToken getAccessToken(OAuth2Authentication authentication) {
+        String accessToken = authenticationToAccess.get(authenticationKeyGenerator.extractKey(authentication));
+        return accessToken == null ? null : readAccessToken(accessToken);
+    }
+
+    @Override
+    public Collection<OAuth2AccessToken> findTokensByClientIdAndUserName(String clientId, String userName) {
+        return tokensOf(userIndex.get(indexKey(clientId, userName)));
+    }
+
+    @Override
+    public Collection<OAuth2AccessToken> findTokensByClientId(String clientId) {
+        return tokensOf(clientIndex.get(clientId));
+    }
+
+    @Override
+    public void destroy() {
+        if (reaper != null) {
+            reaper.shutdownNow();
+        }
+    }
+
+    private void removeAccess(AccessEntry entry) {
+        if (accessTokens.remove(entry.value, entry)) {
+            unlink(entry);
+        }
+    }
+
+    private void removeRefresh(RefreshEntry entry) {
+        if (refreshTokens.remove(entry.value, entry)) {
+            unschedule(entry);
+            refreshToAccess.remove(entry.value);
+        }
+    }
+
+    private void unschedule(RefreshEntry entry) {
+        if (entry.timeout != null) {
+            entry.timeout.cancel();
+        }
+        if (entry.sequence != 0) {
+            unexpiringRefresh.remove(entry.sequence, entry);
+        }
+    }
+
+    private void unlink(AccessEntry entry) {
+        authenticationToAccess.remove(entry.authenticationKey, entry.value);
+        removeFromIndex(clientIndex, entry.authentication.getClientId(), entry.value);
+        if (entry.userKey != null) {
+            removeFromIndex(userIndex, entry.userKey, entry.value);
+        }
+        if (entry.timeout != null) {
+            entry.timeout.cancel();
+        }
+        if (entry.sequence != 0) {
+            unexpiringAccess.remove(entry.sequence, entry);
+        }
+    }
+
+    private static <T> T pollOldest(ConcurrentNavigableMap<Long, T> unexpiring) {
+        Map.Entry<Long, T> oldest = unexpiring.pollFirstEntry();
+        return oldest == null ? null : oldest.getValue();
+    }
+
+    private Collection<OAuth2AccessToken> tokensOf(Set<String> values) {
+        if (values == null) {
+            return Collections.emptyList();
+        }
+        return values.stream()
+            .map(this::readAccessToken)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    private static String indexKey(String clientId, String userName) {
+        return clientId + (userName == null ? "" : ":" + userName);
+    }
+
+    private static void addToIndex(ConcurrentMap<String, Set<String>> index, String key, String value) {
+        index.compute(key, (k, values) -> {
+            Set<String> set = values == null ? ConcurrentHashMap.newKeySet() : values;
+            set.add(value);
+            return set;
+        });
+    }
+
+    private static void removeFromIndex(ConcurrentMap<String, Set<String>> index, String key, String value) {
+        index.computeIfPresent(key, (k, values) -> {
+            values.remove(value);
+            return values.isEmpty() ? null : values;
+        });
+    }
+
+    private static final class AccessEntry {
+
+        private final String value;
+
+        private final OAuth2AccessToken token;
+
+        private final StoredAuthentication authentication;
+
+        private final String authenticationKey;
+
+        private final String userKey;
+
+        private volatile HashedTimingWheel.Timeout<AccessEntry> timeout;
+
+        /**
+         * position among the tokens without an expiration, 0 for a token on the wheel
+         */
+        private volatile long sequence;
+
+        private AccessEntry(OAuth2AccessToken token, StoredAuthentication authentication,
+                            String authenticationKey, String userKey) {
+            this.value = token.getValue();
+            this.token = token;
+            this.authentication = authentication;
+            this.authenticationKey = authenticationKey;
+            this.userKey = userKey;
+        }
+    }
+
+    private static final class RefreshEntry {
+
+        private final String value;
+
+        private final OAuth2RefreshToken token;
+
+        private final StoredAuthentication authentication;
+
+        private volatile HashedTimingWheel.Timeout<RefreshEntry> timeout;
+
+        private volatile long sequence;
+
+        private RefreshEntry(OAuth2RefreshToken token, StoredAuthentication authentication) {
+            this.value = token.getValue();
+            this.token = token;
+            this.authentication = authentication;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.jayden.tutorial.springrestapi.common.token;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel: timeouts are hashed into {@code wheelSize} buckets by their deadline tick, so
+ * scheduling is O(1) from any thread and each {@link #advance(long, Consumer)} only visits the buckets of
+ * the ticks that passed. Timeouts further away than one revolution stay in their bucket until their round.
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+
+    private final int mask;
+
+    private final Queue<Timeout<T>>[] buckets;
+
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMillis, int wheelSize, long nowMillis) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            this.buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.currentTick = tickOf(nowMillis);
+    }
+
+    public Timeout<T> schedule(T value, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(value, deadlineMillis);
+        long tick = Math.max(tickOf(deadlineMillis), this.currentTick);
+        this.buckets[(int) (tick & this.mask)].add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Hands every timeout whose deadline is not after {@code nowMillis} to {@code expired}.
+     */
+    public synchronized void advance(long nowMillis, Consumer<T> expired) {
+        long targetTick = tickOf(nowMillis);
+        long lastTick = Math.min(targetTick, this.currentTick + this.mask);
+        for (long tick = this.currentTick; tick <= lastTick; tick++) {
+            Iterator<Timeout<T>> iterator = this.buckets[(int) (tick & this.mask)].iterator();
+            while (iterator.hasNext()) {
+                Timeout<T> timeout = iterator.next();
+                if (timeout.isCancelled()) {
+                    iterator.remove();
+                } else if (timeout.getDeadlineMillis() <= nowMillis) {
+                    iterator.remove();
+                    expired.accept(timeout.getValue());
+                }
+            }
+        }
+        // the target bucket may still hold timeouts due later within this tick, so it is visited again
+        this.currentTick = Math.max(this.currentTick, targetTick);
+    }
+
+    /**
+     * Removes the live timeout that is due soonest, approximately: the first bucket at or after the current
+     * tick that holds a timeout of the current revolution wins.
+     *
+     * @return the value of the removed timeout, or null when nothing is scheduled
+     */
+    public synchronized T pollSoonest() {
+        long fromTick = this.currentTick;
+        Timeout<T> fallback = null;
+        for (long tick = fromTick; tick <= fromTick + this.mask; tick++) {
+            for (Timeout<T> timeout : this.buckets[(int) (tick & this.mask)]) {
+                if (timeout.isCancelled()) {
+                    continue;
+                }
+                if (tickOf(timeout.getDeadlineMillis()) <= tick) {
+                    return remove(tick, timeout);
+                }
+                if (fallback == null) {
+                    fallback = timeout;
+                }
+            }
+        }
+        if (fallback == null) {
+            return null;
+        }
+        long tick = Math.max(tickOf(fallback.getDeadlineMillis()), fromTick);
+        return remove(tick, fallback);
+    }
+
+    private T remove(long tick, Timeout<T> timeout) {
+        this.buckets[(int) (tick & this.mask)].remove(timeout);
+        timeout.cancel();
+        return timeout.getValue();
+    }
+
+    private long tickOf(long millis) {
+        return millis / this.tickMillis;
+    }
+
+    public static final class Timeout<T> {
+
+        private final T value;
+
+        private final long deadlineMillis;
+
+        private volatile boolean cancelled;
+
+        private Timeout(T value, long deadlineMillis) {
+            this.value = value;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Cancelled timeouts are dropped lazily when their bucket is visited.
+         */
+        public void cancel() {
+            this.cancelled = true;
+        }
+    }
+}
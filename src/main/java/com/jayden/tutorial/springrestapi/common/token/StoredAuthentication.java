@@ -0,0 +1,68 @@
+package com.jayden.tutorial.springrestapi.common.token;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.common.util.OAuth2Utils;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact form of an {@link OAuth2Authentication}: only what the resource server and the refresh grant read
+ * back is kept. Request parameters other than the grant type, authentication details and credentials are
+ * dropped, and every read hands out a fresh {@link OAuth2Authentication} so callers never share mutable state.
+ */
+final class StoredAuthentication {
+
+    private final String clientId;
+
+    private final String grantType;
+
+    private final Collection<? extends GrantedAuthority> clientAuthorities;
+
+    private final Set<String> scope;
+
+    private final Set<String> resourceIds;
+
+    private final boolean approved;
+
+    private final Object principal;
+
+    private final Collection<? extends GrantedAuthority> userAuthorities;
+
+    private StoredAuthentication(OAuth2Authentication authentication) {
+        OAuth2Request request = authentication.getOAuth2Request();
+        this.clientId = request.getClientId();
+        this.grantType = request.getGrantType();
+        this.clientAuthorities = request.getAuthorities();
+        this.scope = request.getScope();
+        this.resourceIds = request.getResourceIds();
+        this.approved = request.isApproved();
+        Authentication user = authentication.getUserAuthentication();
+        this.principal = user == null ? null : user.getPrincipal();
+        this.userAuthorities = user == null ? null : user.getAuthorities();
+    }
+
+    static StoredAuthentication of(OAuth2Authentication authentication) {
+        return new StoredAuthentication(authentication);
+    }
+
+    String getClientId() {
+        return clientId;
+    }
+
+    OAuth2Authentication toAuthentication() {
+        Map<String, String> parameters = grantType == null
+            ? Collections.emptyMap() : Collections.singletonMap(OAuth2Utils.GRANT_TYPE, grantType);
+        OAuth2Request request = new OAuth2Request(parameters, clientId, clientAuthorities, approved, scope,
+            resourceIds, null, null, null);
+        Authentication user = principal == null
+            ? null : new UsernamePasswordAuthenticationToken(principal, null, userAuthorities);
+        return new OAuth2Authentication(request, user);
+    }
+}
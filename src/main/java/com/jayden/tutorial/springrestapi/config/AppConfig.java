@@ -1,31 +1,38 @@
 package com.jayden.tutorial.springrestapi.config;
 
 import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.common.password.BoundedPasswordEncoder;
+import com.jayden.tutorial.springrestapi.common.password.UpgradingPasswordEncoder;
 import com.jayden.tutorial.springrestapi.domain.account.Account;
 import com.jayden.tutorial.springrestapi.domain.account.AccountRole;
 import com.jayden.tutorial.springrestapi.domain.account.AccountService;
-import org.modelmapper.ModelMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Clock;
 import java.util.Set;
 
 @Configuration
 public class AppConfig {
 
+    /**
+     * time source of the event status scheduler
+     */
     @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
+    public Clock clock() {
+        return Clock.systemDefaultZone();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(AppProperties appProperties, MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new UpgradingPasswordEncoder(appProperties.getPasswordStrength()),
+            appProperties.getPasswordHashThreads(), appProperties.getPasswordHashQueueCapacity(),
+            appProperties.getPasswordHashTimeoutMillis(), meterRegistry);
     }
 
     @Bean
@@ -1,6 +1,9 @@
 package com.jayden.tutorial.springrestapi.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.common.password.CachingPasswordEncoder;
+import com.jayden.tutorial.springrestapi.common.password.PasswordHashingUnavailableFilter;
 import com.jayden.tutorial.springrestapi.domain.account.AccountService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
@@ -12,6 +15,7 @@ import org.springframework.security.oauth2.config.annotation.web.configuration.E
 import org.springframework.security.oauth2.config.annotation.web.configurers.AuthorizationServerEndpointsConfigurer;
 import org.springframework.security.oauth2.config.annotation.web.configurers.AuthorizationServerSecurityConfigurer;
 import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
 
 @Configuration
 @EnableAuthorizationServer
@@ -32,9 +36,17 @@ public class AuthServerConfig extends AuthorizationServerConfigurerAdapter {
     @Autowired
     AppProperties appProperties;
 
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired(required = false)
+    JwtAccessTokenConverter accessTokenConverter;
+
     @Override
     public void configure(AuthorizationServerSecurityConfigurer security) throws Exception {
-        security.passwordEncoder(passwordEncoder);
+        security.passwordEncoder(new CachingPasswordEncoder(passwordEncoder,
+                        appProperties.getClientCredentialsCacheSeconds(), 1_000))
+                .addTokenEndpointAuthenticationFilter(new PasswordHashingUnavailableFilter(objectMapper));
     }
 
     @Override
@@ -53,5 +65,8 @@ public class AuthServerConfig extends AuthorizationServerConfigurerAdapter {
         endpoints.authenticationManager(authenticationManager)
                 .userDetailsService(accountService)
                 .tokenStore(tokenStore);
+        if (accessTokenConverter != null) {
+            endpoints.accessTokenConverter(accessTokenConverter);
+        }
     }
 }
@@ -0,0 +1,88 @@
+package com.jayden.tutorial.springrestapi.config;
+
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.common.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Primary and replica pools behind a {@link ReadWriteRoutingDataSource}, active once replica URLs are configured.
+ * Every pool takes the {@code spring.datasource.hikari} settings and is named after its route, so the
+ * {@code hikaricp.*} metrics are reported per route.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "my-app.replicas", name = "urls")
+public class DataSourceConfig implements DisposableBean {
+
+    @Autowired
+    private AppProperties appProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    /**
+     * The routing data source is built here rather than exposed as a bean of its own, which would make it a
+     * second {@link DataSource} candidate that the primary one depends on while it is still in creation.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties) {
+        HikariDataSource primary = pool(ReadWriteRoutingDataSource.PRIMARY, properties.determineUrl(),
+            properties.determineUsername(), properties.determinePassword(), properties);
+
+        AppProperties.Replicas replicas = appProperties.getReplicas();
+        String username = replicas.getUsername() != null ? replicas.getUsername() : properties.determineUsername();
+        String password = replicas.getPassword() != null ? replicas.getPassword() : properties.determinePassword();
+        List<DataSource> replicaPools = new ArrayList<>();
+        for (String url : replicas.getUrls()) {
+            String poolName = ReadWriteRoutingDataSource.REPLICA_PREFIX + replicaPools.size();
+            replicaPools.add(pool(poolName, url, username, password, properties));
+        }
+        this.routingDataSource = new ReadWriteRoutingDataSource(primary, replicaPools,
+            Duration.ofSeconds(replicas.getReadYourWritesSeconds()), meterRegistry);
+        this.routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(this.routingDataSource);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (this.routingDataSource != null) {
+            this.routingDataSource.close();
+        }
+    }
+
+    private HikariDataSource pool(String poolName, String url, String username, String password,
+                                  DataSourceProperties properties) {
+        HikariDataSource pool = new HikariDataSource();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setDriverClassName(properties.determineDriverClassName());
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        pool.setPoolName(poolName);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
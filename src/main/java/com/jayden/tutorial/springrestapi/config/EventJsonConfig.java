@@ -0,0 +1,36 @@
+package com.jayden.tutorial.springrestapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayden.tutorial.springrestapi.domain.event.Event;
+import com.jayden.tutorial.springrestapi.domain.event.EventJsonModule;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.RelProvider;
+
+/**
+ * Streaming serializers for event responses. Registered on every {@link ObjectMapper} bean, which includes
+ * the HAL object mapper that is not built from the Boot Jackson builder.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "my-app", name = "streaming-serializers", havingValue = "true")
+public class EventJsonConfig {
+
+    @Bean
+    public static BeanPostProcessor eventJsonModuleRegistrar(@Qualifier("_relProvider") ObjectProvider<RelProvider> relProvider) {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ObjectMapper) {
+                    String collectionRel = relProvider.getObject().getCollectionResourceRelFor(Event.class);
+                    ((ObjectMapper) bean).registerModule(new EventJsonModule(collectionRel));
+                }
+                return bean;
+            }
+        };
+    }
+}
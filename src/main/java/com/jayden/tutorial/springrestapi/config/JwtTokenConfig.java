@@ -0,0 +1,60 @@
+package com.jayden.tutorial.springrestapi.config;
+
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.common.token.AccountUserAuthenticationConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.provider.token.DefaultAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+import org.springframework.security.oauth2.provider.token.store.KeyStoreKeyFactory;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Signed, self-contained access tokens. The resource server verifies the signature in-process and rebuilds the
+ * principal from the claims, so no token store or account lookup is shared between API nodes.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "my-app.jwt", name = "enabled", havingValue = "true")
+public class JwtTokenConfig {
+
+    @Autowired
+    private AppProperties appProperties;
+
+    @Bean
+    public JwtAccessTokenConverter accessTokenConverter() throws NoSuchAlgorithmException {
+        DefaultAccessTokenConverter tokenConverter = new DefaultAccessTokenConverter();
+        tokenConverter.setUserTokenConverter(new AccountUserAuthenticationConverter());
+
+        JwtAccessTokenConverter accessTokenConverter = new JwtAccessTokenConverter();
+        accessTokenConverter.setAccessTokenConverter(tokenConverter);
+        accessTokenConverter.setKeyPair(keyPair());
+        return accessTokenConverter;
+    }
+
+    @Bean
+    public TokenStore jwtTokenStore(JwtAccessTokenConverter accessTokenConverter) {
+        return new JwtTokenStore(accessTokenConverter);
+    }
+
+    /**
+     * Without a configured key store the key pair only lives as long as this node, which is enough for a single
+     * instance and for tests but not for a cluster.
+     */
+    private KeyPair keyPair() throws NoSuchAlgorithmException {
+        AppProperties.Jwt jwt = appProperties.getJwt();
+        if (jwt.getKeyStore() == null) {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        }
+        return new KeyStoreKeyFactory(jwt.getKeyStore(), jwt.getKeyStorePassword().toCharArray())
+            .getKeyPair(jwt.getKeyAlias());
+    }
+}
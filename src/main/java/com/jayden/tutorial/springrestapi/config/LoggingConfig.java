@@ -0,0 +1,53 @@
+package com.jayden.tutorial.springrestapi.config;
+
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.common.logging.RequestLogFilter;
+import com.jayden.tutorial.springrestapi.common.logging.SlowQueryLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Request context for log lines and the slow request and slow query logs. Only outliers above the
+ * {@code my-app.slow-*-millis} thresholds are logged, so the prod profile can keep SQL logging off.
+ */
+@Configuration
+public class LoggingConfig {
+
+    @Autowired
+    private AppProperties appProperties;
+
+    /**
+     * Runs ahead of the security filter chain so statements issued while authenticating are counted too.
+     */
+    @Bean
+    public FilterRegistrationBean<RequestLogFilter> requestLogFilter() {
+        FilterRegistrationBean<RequestLogFilter> registration =
+            new FilterRegistrationBean<>(new RequestLogFilter(appProperties.getSlowRequestMillis()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "my-app", name = "slow-query-millis")
+    public static BeanPostProcessor slowQueryLogDataSourceWrapper(Environment environment) {
+        long thresholdMillis = environment.getRequiredProperty("my-app.slow-query-millis", Long.class);
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && thresholdMillis >= 0) {
+                    return SlowQueryLog.wrap((DataSource) bean, thresholdMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
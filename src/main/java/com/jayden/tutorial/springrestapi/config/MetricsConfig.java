@@ -0,0 +1,57 @@
+package com.jayden.tutorial.springrestapi.config;
+
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.common.metrics.MetricsAspect;
+import com.jayden.tutorial.springrestapi.common.metrics.RequestStatementsInterceptor;
+import com.jayden.tutorial.springrestapi.common.metrics.SqlStatementCounter;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Controller methods are timed by the Boot {@code http.server.requests} metric, this adds the per request SQL
+ * statement count, repository and token store timers and {@code @Timed} services. Histograms of the Boot meters
+ * are switched on in application.properties; everything is scraped from {@code /actuator/prometheus} by an admin.
+ *
+ * Statement counting ({@code my-app.sql-metrics}) and Hibernate statistics ({@code my-app.hibernate-statistics})
+ * are off unless configured.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AppProperties appProperties;
+
+    @Bean
+    public MetricsAspect metricsAspect() {
+        return new MetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public TimedAspect timedAspect() {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "my-app", name = "sql-metrics", havingValue = "true")
+    public HibernatePropertiesCustomizer sqlStatementCounter() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, SqlStatementCounter.class.getName());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (appProperties.isSqlMetrics()) {
+            registry.addInterceptor(new RequestStatementsInterceptor(meterRegistry));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.jayden.tutorial.springrestapi.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -7,14 +8,19 @@ import org.springframework.security.oauth2.config.annotation.web.configuration.E
 import org.springframework.security.oauth2.config.annotation.web.configuration.ResourceServerConfigurerAdapter;
 import org.springframework.security.oauth2.config.annotation.web.configurers.ResourceServerSecurityConfigurer;
 import org.springframework.security.oauth2.provider.error.OAuth2AccessDeniedHandler;
+import org.springframework.security.oauth2.provider.token.TokenStore;
 
 @Configuration
 @EnableResourceServer
 public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
 
+    @Autowired
+    TokenStore tokenStore;
+
     @Override
     public void configure(ResourceServerSecurityConfigurer resources) throws Exception {
-        resources.resourceId("event");
+        resources.resourceId("event")
+            .tokenStore(tokenStore);
     }
 
     @Override
@@ -25,6 +31,10 @@ public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
             .authorizeRequests()
             .mvcMatchers(HttpMethod.GET, "/api/**")
             .permitAll()
+            .mvcMatchers("/actuator/health")
+            .permitAll()
+            .mvcMatchers("/actuator/**")
+            .hasRole("ADMIN")
             .anyRequest()
             .authenticated()
             .and()
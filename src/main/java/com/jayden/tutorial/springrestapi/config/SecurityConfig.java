@@ -1,8 +1,11 @@
 package com.jayden.tutorial.springrestapi.config;
 
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.common.token.ExpiringTokenStore;
 import com.jayden.tutorial.springrestapi.domain.account.AccountService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Configurable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.HttpMethod;
@@ -14,7 +17,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.provider.token.TokenStore;
-import org.springframework.security.oauth2.provider.token.store.InMemoryTokenStore;
 
 @Configurable
 @EnableWebSecurity
@@ -26,9 +28,13 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private AppProperties appProperties;
+
     @Bean
+    @ConditionalOnProperty(prefix = "my-app.jwt", name = "enabled", havingValue = "false", matchIfMissing = true)
     public TokenStore tokenStore() {
-        return new InMemoryTokenStore();
+        return new ExpiringTokenStore(appProperties.getTokenStoreCapacity());
     }
 
     @Bean
@@ -0,0 +1,107 @@
+package com.jayden.tutorial.springrestapi.controller;
+
+import com.jayden.tutorial.springrestapi.common.ApiLinks;
+import com.jayden.tutorial.springrestapi.common.CurrentUser;
+import com.jayden.tutorial.springrestapi.domain.account.Account;
+import com.jayden.tutorial.springrestapi.domain.enrollment.Enrollment;
+import com.jayden.tutorial.springrestapi.domain.enrollment.EnrollmentResource;
+import com.jayden.tutorial.springrestapi.domain.enrollment.EnrollmentService;
+import com.jayden.tutorial.springrestapi.domain.enrollment.infra.EnrollmentRepository;
+import com.jayden.tutorial.springrestapi.domain.event.EventStatus;
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.Optional;
+
+@RestController
+@RequestMapping(value = "/api/events/{eventId}/enrollments", produces = MediaTypes.HAL_JSON_UTF8_VALUE)
+public class EnrollmentController {
+
+    private final EventRepository eventRepository;
+
+    private final EnrollmentRepository enrollmentRepository;
+
+    private final EnrollmentService enrollmentService;
+
+    public EnrollmentController(EventRepository eventRepository, EnrollmentRepository enrollmentRepository,
+                                EnrollmentService enrollmentService) {
+        this.eventRepository = eventRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.enrollmentService = enrollmentService;
+    }
+
+    /**
+     * 201 with a new enrollment, enrolled or waitlisted, or 200 with the enrollment of an earlier attempt.
+     */
+    @PostMapping
+    public ResponseEntity enroll(@PathVariable Long eventId,
+                                 @CurrentUser Account currentUser) {
+        Optional<EventStatus> optionalStatus = this.eventRepository.findStatusById(eventId);
+        if (optionalStatus.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (optionalStatus.get() != EventStatus.BEGAN_ENROLLMENT) {
+            return new ResponseEntity(HttpStatus.CONFLICT);
+        }
+
+        EnrollmentService.Result result = this.enrollmentService.enroll(eventId, currentUser);
+        EnrollmentResource enrollmentResource = resource(result.getEnrollment());
+        enrollmentResource.add(new Link("/docs/index.html#resources-enrollments-create").withRel("profile"));
+        if (!result.isCreated()) {
+            return ResponseEntity.ok(enrollmentResource);
+        }
+        URI createdUri = URI.create(ApiLinks.enrollmentHref(eventId, result.getEnrollment().getId()));
+        return ResponseEntity.created(createdUri).body(enrollmentResource);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity getEnrollment(@PathVariable Long eventId,
+                                        @PathVariable Long id,
+                                        @CurrentUser Account currentUser) {
+        Optional<Enrollment> optionalEnrollment = this.enrollmentRepository.findByIdAndEventId(id, eventId);
+        if (optionalEnrollment.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Enrollment enrollment = optionalEnrollment.get();
+        if (!isOwner(enrollment, currentUser)) {
+            return new ResponseEntity(HttpStatus.UNAUTHORIZED);
+        }
+        EnrollmentResource enrollmentResource = resource(enrollment);
+        enrollmentResource.add(new Link("/docs/index.html#resources-enrollments-get").withRel("profile"));
+        return ResponseEntity.ok(enrollmentResource);
+    }
+
+    /**
+     * The seat goes to the first waitlisted enrollment.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity cancelEnrollment(@PathVariable Long eventId,
+                                           @PathVariable Long id,
+                                           @CurrentUser Account currentUser) {
+        Optional<Enrollment> optionalEnrollment = this.enrollmentRepository.findByIdAndEventId(id, eventId);
+        if (optionalEnrollment.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Enrollment enrollment = optionalEnrollment.get();
+        if (!isOwner(enrollment, currentUser)) {
+            return new ResponseEntity(HttpStatus.UNAUTHORIZED);
+        }
+        this.enrollmentService.cancel(enrollment);
+        return ResponseEntity.noContent().build();
+    }
+
+    private EnrollmentResource resource(Enrollment enrollment) {
+        return new EnrollmentResource(enrollment, this.enrollmentService.waitlistPosition(enrollment));
+    }
+
+    private static boolean isOwner(Enrollment enrollment, Account account) {
+        return account != null && enrollment.getAccountId().equals(account.getId());
+    }
+}
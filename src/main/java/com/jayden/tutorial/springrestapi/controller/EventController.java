@@ -1,47 +1,110 @@
 package com.jayden.tutorial.springrestapi.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jayden.tutorial.springrestapi.common.ApiLinks;
 import com.jayden.tutorial.springrestapi.common.CurrentUser;
 import com.jayden.tutorial.springrestapi.common.ErrorResource;
 import com.jayden.tutorial.springrestapi.domain.account.Account;
+import com.jayden.tutorial.springrestapi.domain.enrollment.EnrollmentService;
 import com.jayden.tutorial.springrestapi.domain.event.Event;
+import com.jayden.tutorial.springrestapi.domain.event.EventBulkImporter;
+import com.jayden.tutorial.springrestapi.domain.event.EventBulkResult;
+import com.jayden.tutorial.springrestapi.domain.event.EventCountCache;
+import com.jayden.tutorial.springrestapi.domain.event.EventCursor;
 import com.jayden.tutorial.springrestapi.domain.event.EventDto;
+import com.jayden.tutorial.springrestapi.domain.event.EventExporter;
+import com.jayden.tutorial.springrestapi.domain.event.EventMapper;
+import com.jayden.tutorial.springrestapi.domain.event.EventPatch;
 import com.jayden.tutorial.springrestapi.domain.event.EventResource;
+import com.jayden.tutorial.springrestapi.domain.event.EventSearch;
+import com.jayden.tutorial.springrestapi.domain.event.EventStatusScheduler;
+import com.jayden.tutorial.springrestapi.domain.event.EventTextIndex;
 import com.jayden.tutorial.springrestapi.domain.event.EventValidator;
+import com.jayden.tutorial.springrestapi.domain.event.EventVersion;
+import com.jayden.tutorial.springrestapi.domain.event.EventWriteQueue;
+import com.jayden.tutorial.springrestapi.domain.event.EventWriteTicket;
 import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.Resource;
-import org.springframework.hateoas.mvc.ControllerLinkBuilder;
+import org.springframework.hateoas.Resources;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping(value = "/api/events", produces = MediaTypes.HAL_JSON_UTF8_VALUE)
 public class EventController {
 
+    private static final Set<String> CURSOR_PARAMETERS = Set.of("cursor", "size", "page", "sort", "slice", "total");
+
     private final EventRepository eventRepository;
 
-    private final ModelMapper modelMapper;
+    private final EventMapper eventMapper;
 
     private final EventValidator eventValidator;
 
-    public EventController(EventRepository eventRepository, ModelMapper modelMapper, EventValidator eventValidator) {
+    private final EventCountCache eventCountCache;
+
+    private final EventExporter eventExporter;
+
+    private final EventBulkImporter eventBulkImporter;
+
+    private final EventTextIndex eventTextIndex;
+
+    private final EventWriteQueue eventWriteQueue;
+
+    private final EventStatusScheduler eventStatusScheduler;
+
+    private final EnrollmentService enrollmentService;
+
+    public EventController(EventRepository eventRepository, EventMapper eventMapper, EventValidator eventValidator,
+                           EventCountCache eventCountCache, EventExporter eventExporter,
+                           EventBulkImporter eventBulkImporter, EventTextIndex eventTextIndex,
+                           EventWriteQueue eventWriteQueue, EventStatusScheduler eventStatusScheduler,
+                           EnrollmentService enrollmentService) {
         this.eventRepository = eventRepository;
-        this.modelMapper = modelMapper;
+        this.eventMapper = eventMapper;
         this.eventValidator = eventValidator;
+        this.eventCountCache = eventCountCache;
+        this.eventExporter = eventExporter;
+        this.eventBulkImporter = eventBulkImporter;
+        this.eventTextIndex = eventTextIndex;
+        this.eventWriteQueue = eventWriteQueue;
+        this.eventStatusScheduler = eventStatusScheduler;
+        this.enrollmentService = enrollmentService;
     }
 
     @PostMapping
@@ -57,41 +120,267 @@ public class EventController {
             return badRequest(errors);
         }
 
-        Event event = modelMapper.map(eventDto, Event.class);
+        Event event = eventMapper.toEvent(eventDto);
         event.update();
         event.setManager(currentUser);
 
+        if (this.eventWriteQueue.isEnabled()) {
+            return enqueue(event);
+        }
+
         Event newEvent = eventRepository.save(event);
+        eventCountCache.invalidate();
+        eventTextIndex.index(newEvent);
 
-        ControllerLinkBuilder selfLinkBuilder = linkTo(EventController.class).slash(newEvent.getId());
-        URI createdUri = selfLinkBuilder.toUri();
+        URI createdUri = URI.create(ApiLinks.eventHref(newEvent.getId()));
         EventResource eventResource = new EventResource(newEvent);
-        eventResource.add(linkTo(EventController.class).withRel("query-events"));
-        eventResource.add(selfLinkBuilder.withRel("update-event"));
+        eventResource.add(ApiLinks.events("query-events"));
+        eventResource.add(ApiLinks.event(newEvent.getId(), "update-event"));
         eventResource.add(new Link("/docs/index.html#resources-events-create").withRel("profile"));
         return ResponseEntity.created(createdUri).body(eventResource);
     }
 
+    /**
+     * Write-behind mode: 202 with a ticket to poll, or 429 when the queue is full.
+     */
+    private ResponseEntity enqueue(Event event) {
+        Optional<EventWriteTicket> optionalTicket = this.eventWriteQueue.offer(event);
+        if (optionalTicket.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
+        }
+
+        EventWriteTicket ticket = optionalTicket.get();
+        return ResponseEntity.accepted()
+            .location(URI.create(ApiLinks.eventWriteHref(ticket.getId())))
+            .body(ticketResource(ticket));
+    }
+
+    @GetMapping("/writes/{ticket}")
+    public ResponseEntity getEventWrite(@PathVariable String ticket) {
+        return this.eventWriteQueue.ticket(ticket)
+            .map(this::ticketResource)
+            .<ResponseEntity>map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private Resource<EventWriteTicket> ticketResource(EventWriteTicket ticket) {
+        Resource<EventWriteTicket> resource = new Resource<>(ticket);
+        resource.add(ApiLinks.eventWrite(ticket.getId(), Link.REL_SELF));
+        if (ticket.getStatus() == EventWriteTicket.Status.CREATED) {
+            resource.add(ApiLinks.event(ticket.getEventId(), "event"));
+        }
+        resource.add(new Link("/docs/index.html#resources-events-write-behind").withRel("profile"));
+        return resource;
+    }
+
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, EventExporter.NDJSON_VALUE})
+    public ResponseEntity createEvents(HttpServletRequest request,
+                                       @CurrentUser Account currentUser) throws IOException {
+        EventBulkResult result = this.eventBulkImporter.importEvents(request.getInputStream(), currentUser);
+
+        Resource<EventBulkResult> resource = new Resource<>(result);
+        resource.add(ApiLinks.events("query-events"));
+        resource.add(new Link("/docs/index.html#resources-events-bulk").withRel("profile"));
+        return ResponseEntity.ok(resource);
+    }
+
     private ResponseEntity<ErrorResource> badRequest(Errors errors) {
         return ResponseEntity.badRequest().body(new ErrorResource(errors));
     }
 
     @GetMapping
     public ResponseEntity getEvents(Pageable pageable,
+                                    EventSearch search,
                                     PagedResourcesAssembler<Event> assembler,
-                                    @CurrentUser Account currentUser) {
-        Page<Event> page = this.eventRepository.findAll(pageable);
-        PagedResources<Resource<Event>> pagedResources = assembler.toResource(page, e -> new EventResource(e));
+                                    @CurrentUser Account currentUser,
+                                    ServletWebRequest webRequest) {
+        Page<Event> page = search.isEmpty()
+            ? this.eventRepository.findAll(pageable)
+            : this.eventRepository.findAll(search.toSpecification(), pageable);
+        String etag = EventETags.of(page.getContent(), page.getTotalElements(), currentUser != null);
+        if (notModified(webRequest, etag)) {
+            return null;
+        }
+        // the assembler links to the handler method, which knows nothing of the filters in the query string
+        PagedResources<Resource<Event>> pagedResources = search.isEmpty()
+            ? assembler.toResource(page, e -> new EventResource(e))
+            : assembler.toResource(page, e -> new EventResource(e),
+                new Link(ServletUriComponentsBuilder.fromCurrentRequest().build().toUriString()));
         pagedResources.add(new Link("/docs/index.html#resources-events-list").withRel("profile"));
         if (currentUser != null) {
-            pagedResources.add(linkTo(EventController.class).withRel("create-event"));
+            pagedResources.add(ApiLinks.events("create-event"));
+        }
+        return ResponseEntity.ok(pagedResources);
+    }
+
+    /**
+     * A cursor takes precedence over {@code slice=true}, the request is then served by {@link #getEventsByCursor}.
+     * The cached approximate total only covers the whole table; a filtered list is counted exactly.
+     */
+    @GetMapping(params = {"slice=true", "!cursor"})
+    public ResponseEntity getEventsBySlice(Pageable pageable,
+                                           EventSearch search,
+                                           @RequestParam(defaultValue = "false") boolean total,
+                                           @CurrentUser Account currentUser,
+                                           ServletWebRequest webRequest) {
+        Slice<Event> slice = search.isEmpty()
+            ? this.eventRepository.findAllBy(pageable)
+            : this.eventRepository.findSlice(search.toSpecification(), pageable);
+        long approximateCount = !total ? -1
+            : search.isEmpty() ? this.eventCountCache.approximateCount()
+            : this.eventRepository.count(search.toSpecification());
+        String etag = EventETags.of(slice.getContent(), slice.hasNext(), approximateCount, currentUser != null);
+        if (notModified(webRequest, etag)) {
+            return null;
+        }
+        List<Resource<Event>> content = slice.getContent().stream()
+            .map(EventResource::new)
+            .collect(Collectors.toList());
+
+        Resources<Resource<Event>> resources;
+        if (total) {
+            PagedResources.PageMetadata metadata = new PagedResources.PageMetadata(
+                slice.getSize(), slice.getNumber(), approximateCount);
+            resources = new PagedResources<>(content, metadata);
+        } else {
+            resources = new Resources<>(content);
+        }
+
+        resources.add(sliceLink(slice.getNumber(), Link.REL_SELF));
+        if (slice.hasPrevious()) {
+            resources.add(sliceLink(slice.getNumber() - 1, Link.REL_PREVIOUS));
+        }
+        if (slice.hasNext()) {
+            resources.add(sliceLink(slice.getNumber() + 1, Link.REL_NEXT));
+        }
+        resources.add(new Link("/docs/index.html#resources-events-list").withRel("profile"));
+        if (currentUser != null) {
+            resources.add(ApiLinks.events("create-event"));
+        }
+        return ResponseEntity.ok(resources);
+    }
+
+    private Link sliceLink(int page, String rel) {
+        String href = ServletUriComponentsBuilder.fromCurrentRequest()
+            .replaceQueryParam("page", page)
+            .toUriString();
+        return new Link(href, rel);
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity getEventsByCursor(@RequestParam String cursor,
+                                            Pageable pageable,
+                                            EventSearch search,
+                                            @CurrentUser Account currentUser,
+                                            ServletWebRequest webRequest) {
+        EventCursor eventCursor;
+        try {
+            eventCursor = cursor.isEmpty() ? EventCursor.first(pageable.getSort()) : EventCursor.decode(cursor);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        int size = pageable.getPageSize();
+        List<Event> events = new ArrayList<>(this.eventRepository.findAllByCursor(eventCursor,
+            search.isEmpty() ? null : search.toSpecification(), size + 1));
+        boolean hasMore = events.size() > size;
+        if (hasMore) {
+            events.remove(size);
+        }
+        if (eventCursor.isBackward()) {
+            Collections.reverse(events);
+        }
+        String etag = EventETags.of(events, hasMore, currentUser != null);
+        if (notModified(webRequest, etag)) {
+            return null;
+        }
+
+        List<Resource<Event>> content = events.stream()
+            .map(EventResource::new)
+            .collect(Collectors.toList());
+        Resources<Resource<Event>> resources = new Resources<>(content);
+        resources.add(cursorLink(eventCursor.encode(), size, webRequest, Link.REL_SELF));
+        if (!events.isEmpty()) {
+            if (hasMore || eventCursor.isBackward()) {
+                resources.add(cursorLink(eventCursor.next(events.get(events.size() - 1)).encode(), size, webRequest, Link.REL_NEXT));
+            }
+            if ((hasMore && eventCursor.isBackward()) || (!eventCursor.isBackward() && eventCursor.hasPosition())) {
+                resources.add(cursorLink(eventCursor.previous(events.get(0)).encode(), size, webRequest, Link.REL_PREVIOUS));
+            }
+        }
+        resources.add(new Link("/docs/index.html#resources-events-list").withRel("profile"));
+        if (currentUser != null) {
+            resources.add(ApiLinks.events("create-event"));
+        }
+        return ResponseEntity.ok(resources);
+    }
+
+    /**
+     * Carries the filters of the request over; position, size and sort are all in the cursor.
+     */
+    private Link cursorLink(String cursor, int size, ServletWebRequest webRequest, String rel) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(ApiLinks.eventsHref());
+        webRequest.getParameterMap().forEach((name, values) -> {
+            if (!CURSOR_PARAMETERS.contains(name)) {
+                builder.queryParam(name, (Object[]) values);
+            }
+        });
+        String href = builder
+            .queryParam("cursor", cursor)
+            .queryParam("size", size)
+            .toUriString();
+        return new Link(href, rel);
+    }
+
+    /**
+     * Ranked keyword search over name and description; the page is ordered by relevance, so sort is ignored.
+     */
+    @GetMapping("/search")
+    public ResponseEntity searchEvents(@RequestParam String q,
+                                       Pageable pageable,
+                                       PagedResourcesAssembler<Event> assembler,
+                                       @CurrentUser Account currentUser) {
+        Page<Long> ids = this.eventTextIndex.search(q, pageable);
+        Map<Long, Event> eventsById = this.eventRepository.findAllById(ids.getContent()).stream()
+            .collect(Collectors.toMap(Event::getId, Function.identity()));
+        List<Event> events = ids.getContent().stream()
+            .map(eventsById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+
+        Page<Event> page = new PageImpl<>(events, pageable, ids.getTotalElements());
+        PagedResources<Resource<Event>> pagedResources = assembler.toResource(page, e -> new EventResource(e));
+        pagedResources.add(new Link("/docs/index.html#resources-events-search").withRel("profile"));
+        if (currentUser != null) {
+            pagedResources.add(ApiLinks.events("create-event"));
         }
         return ResponseEntity.ok(pagedResources);
     }
 
+    @GetMapping(value = "/export", produces = EventExporter.NDJSON_VALUE)
+    public void exportEvents(HttpServletResponse response) throws IOException {
+        response.setContentType(EventExporter.NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        this.eventExporter.export(response.getOutputStream());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity getEvent(@PathVariable Long id,
-                                   @CurrentUser Account currentUser) {
+                                   @CurrentUser Account currentUser,
+                                   ServletWebRequest webRequest) {
+        Optional<EventVersion> optionalVersion = this.eventRepository.findVersionById(id);
+        if (optionalVersion.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        EventVersion version = optionalVersion.get();
+        String etag = EventETags.of(id, version.getVersion(), version.isManagedBy(currentUser));
+        if (notModified(webRequest, etag, EventETags.lastModified(version.getModifiedAt()))) {
+            return null;
+        }
+
         Optional<Event> optionalEvent = this.eventRepository.findById(id);
         if (optionalEvent.isEmpty()) {
             return ResponseEntity.notFound().build();
@@ -101,8 +390,8 @@ public class EventController {
         EventResource eventResource = new EventResource(event);
         eventResource.add(new Link("/docs/index.html#resources-events-get").withRel("profile"));
 
-        if (event.getManager().equals(currentUser)) {
-            eventResource.add(linkTo(EventController.class).slash(event.getId()).withRel("update-event"));
+        if (event.isManagedBy(currentUser)) {
+            eventResource.add(ApiLinks.event(event.getId(), "update-event"));
         }
 
         return ResponseEntity.ok(eventResource);
@@ -112,7 +401,8 @@ public class EventController {
     public ResponseEntity updateEvent(@PathVariable Long id,
                                       @RequestBody @Valid EventDto eventDto,
                                       Errors errors,
-                                      @CurrentUser Account currentUser) {
+                                      @CurrentUser Account currentUser,
+                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Optional<Event> optionalEvent = this.eventRepository.findById(id);
         if (optionalEvent.isEmpty()) {
             return ResponseEntity.notFound().build();
@@ -122,20 +412,151 @@ public class EventController {
             return badRequest(errors);
         }
 
-        this.eventValidator.validate(eventDto, errors);
+        Event existingEvent = optionalEvent.get();
+        this.eventValidator.validate(eventDto, existingEvent, errors);
         if (errors.hasErrors()) {
             return badRequest(errors);
         }
 
-        Event existingEvent = optionalEvent.get();
-        if (!existingEvent.getManager().equals(currentUser)) {
+        if (!existingEvent.isManagedBy(currentUser)) {
             return new ResponseEntity(HttpStatus.UNAUTHORIZED);
         }
-        this.modelMapper.map(eventDto, existingEvent);
-        Event savedEvent = this.eventRepository.save(existingEvent);
+        if (ifMatch != null && !EventETags.matches(ifMatch, EventETags.of(id, existingEvent.getVersion(), true))) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+        int previousLimit = existingEvent.getLimitOfEnrollment();
+        this.eventMapper.update(eventDto, existingEvent);
+        Event savedEvent;
+        try {
+            savedEvent = this.eventRepository.save(existingEvent);
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        this.eventTextIndex.index(savedEvent);
+        this.eventStatusScheduler.schedule(savedEvent);
+        if (savedEvent.getLimitOfEnrollment() != previousLimit) {
+            this.enrollmentService.limitChanged(id);
+        }
 
         EventResource eventResource = new EventResource(savedEvent);
         eventResource.add(new Link("/docs/index.html#resources-events-update").withRel("profile"));
-        return ResponseEntity.ok(eventResource);
+        return ResponseEntity.ok()
+            .eTag(EventETags.of(id, savedEvent.getVersion(), true))
+            .lastModified(EventETags.lastModified(savedEvent.getModifiedAt()))
+            .body(eventResource);
+    }
+
+    /**
+     * JSON Merge Patch of an event in one UPDATE that writes only the patched columns and carries the manager and
+     * version checks in its WHERE clause. Only when it matches no row is the event read to tell why.
+     */
+    @PatchMapping(value = "/{id}", consumes = {EventPatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity patchEvent(@PathVariable Long id,
+                                     @RequestBody JsonNode body,
+                                     @CurrentUser Account currentUser,
+                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (ifMatch == null || "*".equals(ifMatch.trim())) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).build();
+        }
+        Long version = EventETags.versionOf(ifMatch, id);
+        if (version == null) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+
+        EventPatch patch = EventPatch.of(body);
+        if (patch.getErrors().hasErrors()) {
+            return badRequest(patch.getErrors());
+        }
+
+        Instant modifiedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        if (patch.isEmpty()
+                || this.eventRepository.patch(id, version, Account.idOf(currentUser), patch, modifiedAt) == 0) {
+            return patchNotApplied(id, version, patch, currentUser);
+        }
+
+        long patchedVersion = version + 1;
+        reindex(id, patchedVersion, patch);
+        if (patch.has("beginEnrollmentDateTime") || patch.has("closeEnrollmentDateTime")) {
+            this.eventStatusScheduler.schedule(id, (LocalDateTime) patch.get("beginEnrollmentDateTime"),
+                (LocalDateTime) patch.get("closeEnrollmentDateTime"));
+        }
+        if (patch.has("limitOfEnrollment")) {
+            this.enrollmentService.limitChanged(id);
+        }
+        return ResponseEntity.noContent()
+            .eTag(EventETags.of(id, patchedVersion, true))
+            .lastModified(modifiedAt.toEpochMilli())
+            .build();
+    }
+
+    /**
+     * Answers a patch the UPDATE did not apply, or an empty one, the way {@link #updateEvent} would.
+     */
+    private ResponseEntity patchNotApplied(Long id, Long version, EventPatch patch, Account currentUser) {
+        Optional<EventVersion> optionalVersion = this.eventRepository.findVersionById(id);
+        if (optionalVersion.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        EventVersion current = optionalVersion.get();
+        if (!current.isManagedBy(currentUser)) {
+            return new ResponseEntity(HttpStatus.UNAUTHORIZED);
+        }
+        if (!current.getVersion().equals(version)) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+        if (patch.isEmpty()) {
+            return ResponseEntity.noContent()
+                .eTag(EventETags.of(id, version, true))
+                .lastModified(EventETags.lastModified(current.getModifiedAt()))
+                .build();
+        }
+
+        Optional<Event> optionalEvent = this.eventRepository.findById(id);
+        if (optionalEvent.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Event event = optionalEvent.get();
+        patch.validate(event, patch.getErrors());
+        if (patch.getErrors().hasErrors()) {
+            return badRequest(patch.getErrors());
+        }
+        // changed between the UPDATE and the reads above
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+    }
+
+    /**
+     * The search index needs both name and description; the one a patch leaves alone is read back.
+     */
+    private void reindex(Long id, long version, EventPatch patch) {
+        boolean name = patch.has("name");
+        boolean description = patch.has("description");
+        if (name && description) {
+            this.eventTextIndex.index(Event.builder()
+                .id(id)
+                .version(version)
+                .name((String) patch.get("name"))
+                .description((String) patch.get("description"))
+                .build());
+        } else if (name || description) {
+            this.eventRepository.findById(id).ifPresent(this.eventTextIndex::index);
+        }
+    }
+
+    /**
+     * Sets ETag and Last-Modified and, when the client's copy is current, answers 304 before the body is built.
+     * Representations differ by caller (update and create links), hence the Vary header.
+     */
+    private boolean notModified(ServletWebRequest webRequest, String etag, long lastModified) {
+        webRequest.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        return webRequest.checkNotModified(etag, lastModified);
+    }
+
+    /**
+     * Lists only carry the ETag: the newest modification on a page does not move when an event leaves it, so a
+     * Last-Modified of the page could answer 304 to a changed list.
+     */
+    private boolean notModified(ServletWebRequest webRequest, String etag) {
+        webRequest.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        return webRequest.checkNotModified(etag);
     }
 }
@@ -0,0 +1,75 @@
+package com.jayden.tutorial.springrestapi.controller;
+
+import com.jayden.tutorial.springrestapi.domain.event.Event;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Strong entity tags for event representations. A single event is tagged by id and version; the manager's
+ * variant carries the update link and gets its own tag. A list page is tagged by a digest of the (id, version)
+ * pairs on it plus whatever else changes the page body.
+ */
+final class EventETags {
+
+    private EventETags() {
+    }
+
+    static String of(Long id, Long version, boolean managed) {
+        return "\"" + id + "-" + version + (managed ? "-m" : "") + "\"";
+    }
+
+    static String of(List<Event> events, Object... state) {
+        StringBuilder builder = new StringBuilder();
+        for (Object value : state) {
+            builder.append(value).append(';');
+        }
+        for (Event event : events) {
+            builder.append(event.getId()).append(':').append(event.getVersion()).append(';');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(builder.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    static long lastModified(Instant modifiedAt) {
+        return modifiedAt == null ? -1 : modifiedAt.toEpochMilli();
+    }
+
+    /**
+     * @return true when an {@code If-Match} header value lists {@code etag} or is {@code *}
+     */
+    static boolean matches(String ifMatch, String etag) {
+        for (String candidate : StringUtils.commaDelimitedListToStringArray(ifMatch)) {
+            String trimmed = candidate.trim();
+            if ("*".equals(trimmed) || etag.equals(trimmed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the version in the first tag of event {@code id} an {@code If-Match} header value lists, or null
+     */
+    static Long versionOf(String ifMatch, Long id) {
+        String prefix = "\"" + id + "-";
+        for (String candidate : StringUtils.commaDelimitedListToStringArray(ifMatch)) {
+            String trimmed = candidate.trim();
+            if (!trimmed.startsWith(prefix) || !trimmed.endsWith("\"") || trimmed.length() <= prefix.length()) {
+                continue;
+            }
+            String version = trimmed.substring(prefix.length(), trimmed.length() - 1);
+            if (version.endsWith("-m")) {
+                version = version.substring(0, version.length() - 2);
+            }
+            try {
+                return Long.valueOf(version);
+            } catch (NumberFormatException ex) {
+                // not one of ours
+            }
+        }
+        return null;
+    }
+}
@@ -3,27 +3,89 @@ package com.jayden.tutorial.springrestapi.domain;
 import com.jayden.tutorial.springrestapi.domain.account.Account;
 import com.jayden.tutorial.springrestapi.domain.account.AccountRole;
 import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 
-import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+/**
+ * The account as a Spring Security principal.
+ *
+ * Authorities come from a shared, immutable set per role combination instead of being built and sorted per login
+ * as {@link org.springframework.security.core.userdetails.User} does; equality is by username, like {@code User}.
+ */
 @Getter
-public class AccountAdapter extends User {
+public class AccountAdapter implements UserDetails, CredentialsContainer {
 
-    private Account account;
+    @SuppressWarnings("unchecked")
+    private static final Set<GrantedAuthority>[] AUTHORITIES_BY_MASK = new Set[AccountRole.ALL_BITS + 1];
+
+    static {
+        for (int mask = 0; mask <= AccountRole.ALL_BITS; mask++) {
+            Set<GrantedAuthority> authorities = new LinkedHashSet<>();
+            for (AccountRole role : AccountRole.fromMask(mask)) {
+                authorities.add(new SimpleGrantedAuthority("ROLE_" + role.name()));
+            }
+            AUTHORITIES_BY_MASK[mask] = Collections.unmodifiableSet(authorities);
+        }
+    }
+
+    private final Account account;
+
+    private final String username;
+
+    private String password;
+
+    private final Set<GrantedAuthority> authorities;
 
     public AccountAdapter(Account account) {
-        super(account.getEmail(), account.getPassword(), authorities(account.getRoles()));
         this.account = account;
+        this.username = account.getEmail();
+        this.password = account.getPassword();
+        this.authorities = AUTHORITIES_BY_MASK[AccountRole.toMask(account.getRoles())];
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof AccountAdapter && this.username.equals(((AccountAdapter) other).username);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.username.hashCode();
     }
 
-    private static Collection<? extends GrantedAuthority> authorities(Set<AccountRole> roles) {
-        return roles.stream()
-            .map(r -> new SimpleGrantedAuthority("ROLE_" + r.name()))
-            .collect(Collectors.toSet());
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [Username=" + this.username + ", Authorities=" + this.authorities + "]";
     }
 }
@@ -1,11 +1,16 @@
 package com.jayden.tutorial.springrestapi.domain.account;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.proxy.HibernateProxy;
 
 import javax.persistence.*;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @Builder @NoArgsConstructor @AllArgsConstructor
 public class Account {
@@ -19,7 +24,20 @@ public class Account {
 
     private String password;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @Enumerated(EnumType.STRING)
+    /**
+     * A bitmask column, so an account is one row; loaded sets are shared and unmodifiable, assign a new set to change them
+     */
+    @Convert(converter = AccountRolesConverter.class)
+    @Column(nullable = false)
     private Set<AccountRole> roles;
+
+    /**
+     * Id of the account, read from the proxy of a lazy association without loading the row.
+     */
+    public static Long idOf(Account account) {
+        if (account instanceof HibernateProxy) {
+            return (Long) ((HibernateProxy) account).getHibernateLazyInitializer().getIdentifier();
+        }
+        return account == null ? null : account.getId();
+    }
 }
@@ -0,0 +1,82 @@
+package com.jayden.tutorial.springrestapi.domain.account;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheWriter;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL based cache of accounts by email in front of {@link AccountService#loadUserByUsername(String)}.
+ * Accounts are cached rather than {@link com.jayden.tutorial.springrestapi.domain.AccountAdapter}s because
+ * Spring Security erases the password of the principal after each authentication.
+ * The email of each cached account is also indexed by id, so an account whose email changed is evicted
+ * under its previous email without scanning the cache.
+ */
+@Component
+public class AccountCache {
+
+    private final Cache<String, Account> cache;
+
+    private final Map<Long, String> emailsById = new ConcurrentHashMap<>();
+
+    public AccountCache(AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(appProperties.getAccountCacheSize())
+            .expireAfterWrite(appProperties.getAccountCacheTtlSeconds(), TimeUnit.SECONDS)
+            .writer(new CacheWriter<String, Account>() {
+
+                @Override
+                public void write(String email, Account account) {
+                }
+
+                @Override
+                public void delete(String email, Account account, RemovalCause cause) {
+                    if (account != null && account.getId() != null) {
+                        emailsById.remove(account.getId(), email);
+                    }
+                }
+            })
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "accounts");
+    }
+
+    /**
+     * @return the cached account, or the loaded one; a null result from the loader is not cached
+     */
+    public Account get(String email, Function<String, Account> loader) {
+        return this.cache.get(email, key -> {
+            Account account = loader.apply(key);
+            if (account != null && account.getId() != null) {
+                this.emailsById.put(account.getId(), key);
+            }
+            return account;
+        });
+    }
+
+    public void evict(Account account) {
+        if (account.getEmail() != null) {
+            this.cache.invalidate(account.getEmail());
+        }
+        if (account.getId() != null) {
+            String cachedEmail = this.emailsById.remove(account.getId());
+            if (cachedEmail != null) {
+                this.cache.invalidate(cachedEmail);
+            }
+        }
+    }
+
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+}
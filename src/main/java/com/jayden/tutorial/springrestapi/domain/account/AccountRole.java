@@ -1,6 +1,70 @@
 package com.jayden.tutorial.springrestapi.domain.account;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Each role owns a fixed bit of the {@code account.roles} column, independent of declaration order.
+ */
 public enum AccountRole {
-    ADMIN,
-    USER
+    ADMIN(0x1),
+    USER(0x2);
+
+    private static final AccountRole[] VALUES = values();
+
+    /**
+     * every bit in use; bits of removed roles found in the column are dropped
+     */
+    public static final int ALL_BITS = allBits();
+
+    @SuppressWarnings("unchecked")
+    private static final Set<AccountRole>[] SETS_BY_MASK = new Set[ALL_BITS + 1];
+
+    static {
+        for (int mask = 0; mask <= ALL_BITS; mask++) {
+            EnumSet<AccountRole> roles = EnumSet.noneOf(AccountRole.class);
+            for (AccountRole role : VALUES) {
+                if ((mask & role.bit) != 0) {
+                    roles.add(role);
+                }
+            }
+            SETS_BY_MASK[mask] = Collections.unmodifiableSet(roles);
+        }
+    }
+
+    private final int bit;
+
+    AccountRole(int bit) {
+        this.bit = bit;
+    }
+
+    public int getBit() {
+        return bit;
+    }
+
+    public static int toMask(Set<AccountRole> roles) {
+        int mask = 0;
+        if (roles != null) {
+            for (AccountRole role : roles) {
+                mask |= role.bit;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * @return a shared, unmodifiable set; the same instance for the same mask
+     */
+    public static Set<AccountRole> fromMask(int mask) {
+        return SETS_BY_MASK[mask & ALL_BITS];
+    }
+
+    private static int allBits() {
+        int bits = 0;
+        for (AccountRole role : values()) {
+            bits |= role.bit;
+        }
+        return bits;
+    }
 }
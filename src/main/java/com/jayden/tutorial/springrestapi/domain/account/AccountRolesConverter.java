@@ -0,0 +1,22 @@
+package com.jayden.tutorial.springrestapi.domain.account;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.Set;
+
+/**
+ * Stores the roles of an account as the bitmask of {@link AccountRole#getBit()} in a single int column.
+ */
+@Converter
+public class AccountRolesConverter implements AttributeConverter<Set<AccountRole>, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(Set<AccountRole> roles) {
+        return AccountRole.toMask(roles);
+    }
+
+    @Override
+    public Set<AccountRole> convertToEntityAttribute(Integer mask) {
+        return AccountRole.fromMask(mask == null ? 0 : mask);
+    }
+}
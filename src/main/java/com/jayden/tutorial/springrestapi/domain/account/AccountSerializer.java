@@ -11,7 +11,7 @@ public class AccountSerializer extends JsonSerializer<Account> {
     @Override
     public void serialize(Account account, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeNumberField("id", account.getId());
+        jsonGenerator.writeNumberField("id", Account.idOf(account));
         jsonGenerator.writeEndObject();
     }
 }
@@ -2,10 +2,12 @@ package com.jayden.tutorial.springrestapi.domain.account;
 
 import com.jayden.tutorial.springrestapi.domain.AccountAdapter;
 import com.jayden.tutorial.springrestapi.domain.account.infra.AccountRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -16,7 +18,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
-public class AccountService implements UserDetailsService {
+public class AccountService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private AccountRepository accountRepository;
@@ -24,15 +26,38 @@ public class AccountService implements UserDetailsService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private AccountCache accountCache;
+
+    @Timed(value = "account.service", histogram = true)
     public Account saveAccount(Account account) {
         account.setPassword(passwordEncoder.encode(account.getPassword()));
-        return this.accountRepository.save(account);
+        Account savedAccount = this.accountRepository.save(account);
+        this.accountCache.evict(savedAccount);
+        return savedAccount;
     }
 
     @Override
+    @Timed(value = "account.service", histogram = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Account account = accountRepository.findByEmail(username)
-                .orElseThrow(() -> new UsernameNotFoundException(username));
+        Account account = accountCache.get(username, email -> accountRepository.findByEmail(email).orElse(null));
+        if (account == null) {
+            throw new UsernameNotFoundException(username);
+        }
         return new AccountAdapter(account);
     }
+
+    /**
+     * Stores a password the authentication provider has already rehashed after a successful login.
+     */
+    @Override
+    @Timed(value = "account.service", histogram = true)
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Account account = accountRepository.findByEmail(user.getUsername())
+            .orElseThrow(() -> new UsernameNotFoundException(user.getUsername()));
+        account.setPassword(newPassword);
+        Account savedAccount = this.accountRepository.save(account);
+        this.accountCache.evict(savedAccount);
+        return new AccountAdapter(savedAccount);
+    }
 }
@@ -0,0 +1,49 @@
+package com.jayden.tutorial.springrestapi.domain.enrollment;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A seat, or a place on the waitlist, of one account for one event. The event and the account are referenced by
+ * id so the admission path never loads either row; one account holds at most one enrollment per event, which
+ * makes a retried request find the enrollment of the first attempt.
+ */
+@Entity
+@Table(
+    uniqueConstraints = @UniqueConstraint(name = "uk_enrollment_event_account", columnNames = {"event_id", "account_id"}),
+    indexes = @Index(name = "idx_enrollment_event_status_id", columnList = "event_id, status, id")
+)
+@Getter @Setter @EqualsAndHashCode(of = "id")
+@Builder @NoArgsConstructor @AllArgsConstructor
+public class Enrollment {
+
+    /**
+     * Waitlist order follows the id
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @JsonIgnore
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EnrollmentStatus status;
+
+    private LocalDateTime enrolledAt;
+
+    @PrePersist
+    void prePersist() {
+        if (this.enrolledAt == null) {
+            this.enrolledAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.jayden.tutorial.springrestapi.domain.enrollment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * In-memory admission ahead of the conditional seat update. Each event gets as many permits as it had free seats
+ * when they were loaded, split over stripes so concurrent requests rarely contend on one counter. Once the permits
+ * are gone, requests go straight to the waitlist without touching the event row.
+ *
+ * Permits are only a filter: the seat is taken by {@code EventRepository.takeSeat}, so stale permits, for example
+ * with several instances, can send a request to the database in vain but can never oversell. They are reloaded
+ * after {@code my-app.enrollment-permit-seconds} to pick up seats freed elsewhere.
+ */
+@Component
+public class EnrollmentPermits {
+
+    private final EventRepository eventRepository;
+
+    private final int stripes;
+
+    private final Cache<Long, Stripes> permits;
+
+    public EnrollmentPermits(EventRepository eventRepository, AppProperties appProperties) {
+        this.eventRepository = eventRepository;
+        this.stripes = appProperties.getEnrollmentPermitStripes();
+        this.permits = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(appProperties.getEnrollmentPermitSeconds(), TimeUnit.SECONDS)
+            .build();
+    }
+
+    public boolean tryAcquire(Long eventId) {
+        return this.permits.get(eventId, this::load).tryAcquire();
+    }
+
+    /**
+     * Returns a permit whose request did not end up with a seat, or whose seat was given back.
+     */
+    public void release(Long eventId) {
+        Stripes stripes = this.permits.getIfPresent(eventId);
+        if (stripes != null) {
+            stripes.release();
+        }
+    }
+
+    /**
+     * The database found no free seat, drop the permits still handed out locally.
+     */
+    public void exhaust(Long eventId) {
+        Stripes stripes = this.permits.getIfPresent(eventId);
+        if (stripes != null) {
+            stripes.drain();
+        }
+    }
+
+    public void invalidate(Long eventId) {
+        this.permits.invalidate(eventId);
+    }
+
+    public int available(Long eventId) {
+        Stripes stripes = this.permits.getIfPresent(eventId);
+        return stripes == null ? 0 : stripes.available();
+    }
+
+    private Stripes load(Long eventId) {
+        int remaining = this.eventRepository.findRemainingSeatsById(eventId).orElse(0);
+        return new Stripes(Math.max(remaining, 0), this.stripes);
+    }
+
+    static final class Stripes {
+
+        /**
+         * counters are 64 bytes apart so stripes do not share a cache line
+         */
+        private static final int PADDING = 16;
+
+        private final AtomicIntegerArray counts;
+
+        private final int size;
+
+        Stripes(int permits, int size) {
+            this.size = size;
+            this.counts = new AtomicIntegerArray(size * PADDING);
+            for (int i = 0; i < size; i++) {
+                this.counts.set(i * PADDING, permits / size + (i < permits % size ? 1 : 0));
+            }
+        }
+
+        /**
+         * Starts at a random stripe and moves on while stripes are empty, so a permit is found while any is left.
+         */
+        boolean tryAcquire() {
+            int start = ThreadLocalRandom.current().nextInt(this.size);
+            for (int i = 0; i < this.size; i++) {
+                int index = ((start + i) % this.size) * PADDING;
+                int count;
+                while ((count = this.counts.get(index)) > 0) {
+                    if (this.counts.compareAndSet(index, count, count - 1)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        void release() {
+            this.counts.incrementAndGet(ThreadLocalRandom.current().nextInt(this.size) * PADDING);
+        }
+
+        void drain() {
+            for (int i = 0; i < this.size; i++) {
+                this.counts.set(i * PADDING, 0);
+            }
+        }
+
+        int available() {
+            int available = 0;
+            for (int i = 0; i < this.size; i++) {
+                available += this.counts.get(i * PADDING);
+            }
+            return available;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.jayden.tutorial.springrestapi.domain.enrollment;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.jayden.tutorial.springrestapi.common.ApiLinks;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resource;
+
+public class EnrollmentResource extends Resource<Enrollment> {
+
+    private final Long waitlistPosition;
+
+    public EnrollmentResource(Enrollment enrollment, Long waitlistPosition) {
+        super(enrollment);
+        this.waitlistPosition = waitlistPosition;
+        add(ApiLinks.enrollment(enrollment.getEventId(), enrollment.getId(), Link.REL_SELF));
+        add(ApiLinks.event(enrollment.getEventId(), "event"));
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Long getWaitlistPosition() {
+        return this.waitlistPosition;
+    }
+}
@@ -0,0 +1,130 @@
+package com.jayden.tutorial.springrestapi.domain.enrollment;
+
+import com.jayden.tutorial.springrestapi.domain.account.Account;
+import com.jayden.tutorial.springrestapi.domain.enrollment.infra.EnrollmentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission of enrollments under contention.
+ *
+ * A request first takes an in-memory {@link EnrollmentPermits permit}; only permit holders run the conditional
+ * seat update, everyone else is waitlisted without touching the event row. A request that finds the enrollment
+ * of an earlier attempt returns it, and a concurrent retry that loses the race on the unique (event, account)
+ * key rolls back and returns the winner's enrollment, so retries are idempotent and never take a second seat.
+ */
+@Service
+public class EnrollmentService {
+
+    private final EnrollmentRepository enrollmentRepository;
+
+    private final EnrollmentWriter enrollmentWriter;
+
+    private final EnrollmentPermits enrollmentPermits;
+
+    private final Timer enrolledTimer;
+
+    private final Timer waitlistedTimer;
+
+    public EnrollmentService(EnrollmentRepository enrollmentRepository, EnrollmentWriter enrollmentWriter,
+                             EnrollmentPermits enrollmentPermits, MeterRegistry meterRegistry) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.enrollmentWriter = enrollmentWriter;
+        this.enrollmentPermits = enrollmentPermits;
+        this.enrolledTimer = Timer.builder("enrollment.admission")
+            .tag("result", "enrolled")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.waitlistedTimer = Timer.builder("enrollment.admission")
+            .tag("result", "waitlisted")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    /**
+     * Enrolls the account, or puts it on the waitlist when the event is full. The caller checks that enrollment
+     * is open; an event that closes meanwhile only gets waitlisted enrollments.
+     */
+    public Result enroll(Long eventId, Account account) {
+        Optional<Enrollment> existing = this.enrollmentRepository.findByEventIdAndAccountId(eventId, account.getId());
+        if (existing.isPresent()) {
+            return new Result(existing.get(), false);
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            if (this.enrollmentPermits.tryAcquire(eventId)) {
+                Optional<Enrollment> enrolled;
+                try {
+                    enrolled = this.enrollmentWriter.enroll(eventId, account.getId());
+                } catch (RuntimeException ex) {
+                    this.enrollmentPermits.release(eventId);
+                    throw ex;
+                }
+                if (enrolled.isPresent()) {
+                    this.enrolledTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    return new Result(enrolled.get(), true);
+                }
+                this.enrollmentPermits.exhaust(eventId);
+            }
+            Enrollment waitlisted = this.enrollmentWriter.waitlist(eventId, account.getId());
+            this.waitlistedTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return new Result(waitlisted, true);
+        } catch (DataIntegrityViolationException ex) {
+            return this.enrollmentRepository.findByEventIdAndAccountId(eventId, account.getId())
+                .map(enrollment -> new Result(enrollment, false))
+                .orElseThrow(() -> ex);
+        }
+    }
+
+    /**
+     * Cancels the enrollment; its seat goes to the head of the waitlist, or back to the permits when nobody waits.
+     */
+    public void cancel(Enrollment enrollment) {
+        if (this.enrollmentWriter.cancel(enrollment)) {
+            this.enrollmentPermits.release(enrollment.getEventId());
+        }
+    }
+
+    /**
+     * Called once a change of the event's limit of enrollment is committed. New seats go to the waitlist first,
+     * oldest enrollment first, and only then are the permits reloaded for new requests; a lowered limit just
+     * drops the permits.
+     */
+    public void limitChanged(Long eventId) {
+        while (this.enrollmentWriter.promote(eventId)) {
+            // one short transaction per promoted enrollment
+        }
+        this.enrollmentPermits.invalidate(eventId);
+    }
+
+    /**
+     * @return the 1-based place on the waitlist, null for an enrolled enrollment
+     */
+    public Long waitlistPosition(Enrollment enrollment) {
+        if (enrollment.getStatus() != EnrollmentStatus.WAITLISTED) {
+            return null;
+        }
+        return this.enrollmentRepository.countByEventIdAndStatusAndIdLessThan(
+            enrollment.getEventId(), EnrollmentStatus.WAITLISTED, enrollment.getId()) + 1;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+
+        private final Enrollment enrollment;
+
+        /**
+         * false when an earlier attempt of the same account already enrolled
+         */
+        private final boolean created;
+    }
+}
@@ -0,0 +1,6 @@
+package com.jayden.tutorial.springrestapi.domain.enrollment;
+
+public enum EnrollmentStatus {
+
+    ENROLLED, WAITLISTED;
+}
@@ -0,0 +1,96 @@
+package com.jayden.tutorial.springrestapi.domain.enrollment;
+
+import com.jayden.tutorial.springrestapi.domain.enrollment.infra.EnrollmentRepository;
+import com.jayden.tutorial.springrestapi.domain.event.EventStatus;
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The transactions of {@link EnrollmentService}, each one short and touching the event row at most once.
+ */
+@Service
+public class EnrollmentWriter {
+
+    private final EventRepository eventRepository;
+
+    private final EnrollmentRepository enrollmentRepository;
+
+    public EnrollmentWriter(EventRepository eventRepository, EnrollmentRepository enrollmentRepository) {
+        this.eventRepository = eventRepository;
+        this.enrollmentRepository = enrollmentRepository;
+    }
+
+    /**
+     * Takes a seat and records the enrollment together; a duplicate enrollment rolls the seat back.
+     *
+     * @return empty when the event has no free seat or enrollment is not open
+     */
+    @Transactional
+    public Optional<Enrollment> enroll(Long eventId, Long accountId) {
+        if (this.eventRepository.takeSeat(eventId, EventStatus.BEGAN_ENROLLMENT) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(save(eventId, accountId, EnrollmentStatus.ENROLLED));
+    }
+
+    @Transactional
+    public Enrollment waitlist(Long eventId, Long accountId) {
+        return save(eventId, accountId, EnrollmentStatus.WAITLISTED);
+    }
+
+    /**
+     * Removes the enrollment and hands its seat to the first waitlisted enrollment that can still be promoted.
+     *
+     * @return true when the seat was given back to the event because nobody was waiting
+     */
+    @Transactional
+    public boolean cancel(Enrollment enrollment) {
+        if (this.enrollmentRepository.deleteEnrollment(enrollment.getId(), EnrollmentStatus.ENROLLED) == 0) {
+            // a waitlisted enrollment holds no seat
+            this.enrollmentRepository.deleteEnrollment(enrollment.getId(), EnrollmentStatus.WAITLISTED);
+            return false;
+        }
+        Long eventId = enrollment.getEventId();
+        for (Enrollment waiting : this.enrollmentRepository.findTop10ByEventIdAndStatusOrderByIdAsc(eventId, EnrollmentStatus.WAITLISTED)) {
+            if (this.enrollmentRepository.changeStatus(waiting.getId(), EnrollmentStatus.WAITLISTED, EnrollmentStatus.ENROLLED) == 1) {
+                return false;
+            }
+        }
+        this.eventRepository.releaseSeat(eventId);
+        return true;
+    }
+
+    /**
+     * Takes a free seat for the first waitlisted enrollment that can still be promoted; the seat goes back when
+     * none can.
+     *
+     * @return true when an enrollment was promoted
+     */
+    @Transactional
+    public boolean promote(Long eventId) {
+        List<Enrollment> waitlist = this.enrollmentRepository.findTop10ByEventIdAndStatusOrderByIdAsc(eventId, EnrollmentStatus.WAITLISTED);
+        if (waitlist.isEmpty() || this.eventRepository.takeSeat(eventId, EventStatus.BEGAN_ENROLLMENT) == 0) {
+            return false;
+        }
+        for (Enrollment waiting : waitlist) {
+            if (this.enrollmentRepository.changeStatus(waiting.getId(), EnrollmentStatus.WAITLISTED, EnrollmentStatus.ENROLLED) == 1) {
+                return true;
+            }
+        }
+        this.eventRepository.releaseSeat(eventId);
+        return false;
+    }
+
+    private Enrollment save(Long eventId, Long accountId, EnrollmentStatus status) {
+        Enrollment enrollment = Enrollment.builder()
+            .eventId(eventId)
+            .accountId(accountId)
+            .status(status)
+            .build();
+        return this.enrollmentRepository.saveAndFlush(enrollment);
+    }
+}
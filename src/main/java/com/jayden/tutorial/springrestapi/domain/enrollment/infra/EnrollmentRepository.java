@@ -0,0 +1,46 @@
+package com.jayden.tutorial.springrestapi.domain.enrollment.infra;
+
+import com.jayden.tutorial.springrestapi.domain.enrollment.Enrollment;
+import com.jayden.tutorial.springrestapi.domain.enrollment.EnrollmentStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+
+    Optional<Enrollment> findByEventIdAndAccountId(Long eventId, Long accountId);
+
+    Optional<Enrollment> findByIdAndEventId(Long id, Long eventId);
+
+    long countByEventIdAndStatus(Long eventId, EnrollmentStatus status);
+
+    /**
+     * Range count over (event_id, status, id), used for the waitlist position
+     */
+    long countByEventIdAndStatusAndIdLessThan(Long eventId, EnrollmentStatus status, Long id);
+
+    List<Enrollment> findTop10ByEventIdAndStatusOrderByIdAsc(Long eventId, EnrollmentStatus status);
+
+    /**
+     * Deletes the enrollment only while it has the given status, so the caller knows whether a seat was freed.
+     *
+     * @return 1 when this call removed the enrollment
+     */
+    @Modifying
+    @Query("delete from Enrollment e where e.id = :id and e.status = :status")
+    int deleteEnrollment(@Param("id") Long id, @Param("status") EnrollmentStatus status);
+
+    /**
+     * Changes the status only while it still is {@code from}, so two cancellations racing to promote the same
+     * waitlisted enrollment promote it once.
+     *
+     * @return 1 when this call changed the status
+     */
+    @Modifying
+    @Query("update Enrollment e set e.status = :to where e.id = :id and e.status = :from")
+    int changeStatus(@Param("id") Long id, @Param("from") EnrollmentStatus from, @Param("to") EnrollmentStatus to);
+}
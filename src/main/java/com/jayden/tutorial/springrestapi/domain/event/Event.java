@@ -1,12 +1,18 @@
 package com.jayden.tutorial.springrestapi.domain.event;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.jayden.tutorial.springrestapi.domain.account.Account;
 import com.jayden.tutorial.springrestapi.domain.account.AccountSerializer;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Builder
 @AllArgsConstructor
@@ -15,10 +21,31 @@ import java.time.LocalDateTime;
 @Setter
 @EqualsAndHashCode(of = "id")
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(indexes = {
+    @Index(name = "idx_event_name_id", columnList = "name, id"),
+    @Index(name = "idx_event_begin_enrollment_id", columnList = "beginEnrollmentDateTime, id"),
+    @Index(name = "idx_event_close_enrollment_id", columnList = "closeEnrollmentDateTime, id"),
+    @Index(name = "idx_event_begin_event_id", columnList = "beginEventDateTime, id"),
+    @Index(name = "idx_event_end_event_id", columnList = "endEventDateTime, id"),
+    @Index(name = "idx_event_base_price_id", columnList = "basePrice, id"),
+    @Index(name = "idx_event_max_price_id", columnList = "maxPrice, id"),
+    @Index(name = "idx_event_status_id", columnList = "eventStatus, id"),
+    @Index(name = "idx_event_status_begin_enrollment", columnList = "eventStatus, beginEnrollmentDateTime"),
+    @Index(name = "idx_event_status_close_enrollment", columnList = "eventStatus, closeEnrollmentDateTime"),
+    @Index(name = "idx_event_free_id", columnList = "free, id"),
+    @Index(name = "idx_event_offline_id", columnList = "offline, id")
+})
 public class Event {
 
+    /**
+     * Pooled sequence (a table on MySQL) so Hibernate can batch inserts; IDENTITY disables JDBC batching.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+    @SequenceGenerator(name = "event_seq", sequenceName = "event_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -41,6 +68,14 @@ public class Event {
 
     private int limitOfEnrollment;
 
+    /**
+     * Changed only by the conditional updates of {@code EventRepository}, never written by an entity update,
+     * so editing an event cannot overwrite concurrent enrollments
+     */
+    @JsonIgnore
+    @Column(updatable = false)
+    private int numberOfEnrollments;
+
     private boolean offline;
 
     private boolean free;
@@ -48,10 +83,42 @@ public class Event {
     @Enumerated(EnumType.STRING)
     private EventStatus eventStatus;
 
-    @ManyToOne
+    /**
+     * Lazy, responses only carry the manager id, which the proxy already holds
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
     @JsonSerialize(using = AccountSerializer.class)
     private Account manager;
 
+    @Version
+    @JsonIgnore
+    private Long version;
+
+    /**
+     * truncated to seconds, the precision of the Last-Modified header
+     */
+    @JsonIgnore
+    private Instant modifiedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.modifiedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @JsonIgnore
+    public Long getManagerId() {
+        return Account.idOf(this.manager);
+    }
+
+    /**
+     * Compares ids only, so an unloaded manager proxy stays unloaded.
+     */
+    public boolean isManagedBy(Account account) {
+        Long managerId = getManagerId();
+        return account != null && managerId != null && managerId.equals(account.getId());
+    }
+
     public void update() {
         if (this.basePrice == 0 && this.maxPrice == 0) {
             this.free = true;
@@ -0,0 +1,111 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.domain.account.Account;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Reads a JSON array or NDJSON stream of {@link EventDto}s one item at a time, validates each item like
+ * {@code POST /api/events} does and hands valid events to {@link EventBulkWriter} in batches.
+ */
+@Service
+public class EventBulkImporter {
+
+    private final ObjectReader eventDtoReader;
+
+    private final SpringValidatorAdapter validator;
+
+    private final EventValidator eventValidator;
+
+    private final EventMapper eventMapper;
+
+    private final EventBulkWriter eventBulkWriter;
+
+    private final EventCountCache eventCountCache;
+
+    private final EventTextIndex eventTextIndex;
+
+    private final int batchSize;
+
+    public EventBulkImporter(ObjectMapper objectMapper, Validator validator, EventValidator eventValidator,
+                             EventMapper eventMapper, EventBulkWriter eventBulkWriter,
+                             EventCountCache eventCountCache, EventTextIndex eventTextIndex,
+                             AppProperties appProperties) {
+        this.eventDtoReader = objectMapper.readerFor(EventDto.class);
+        this.validator = new SpringValidatorAdapter(validator);
+        this.eventValidator = eventValidator;
+        this.eventMapper = eventMapper;
+        this.eventBulkWriter = eventBulkWriter;
+        this.eventCountCache = eventCountCache;
+        this.eventTextIndex = eventTextIndex;
+        this.batchSize = appProperties.getEventBatchSize();
+    }
+
+    public EventBulkResult importEvents(InputStream inputStream, Account manager) throws IOException {
+        EventBulkResult result = new EventBulkResult();
+        List<Event> batch = new ArrayList<>(this.batchSize);
+        int index = 0;
+
+        try (MappingIterator<EventDto> eventDtos = this.eventDtoReader.readValues(inputStream)) {
+            while (eventDtos.hasNextValue()) {
+                EventDto eventDto = eventDtos.nextValue();
+                Errors errors = validate(eventDto);
+                if (errors.hasErrors()) {
+                    result.failed(index++, errors);
+                    continue;
+                }
+
+                Event event = this.eventMapper.toEvent(eventDto);
+                event.update();
+                event.setManager(manager);
+                batch.add(event);
+                index++;
+
+                if (batch.size() == this.batchSize) {
+                    flush(batch, result);
+                }
+            }
+        } catch (JsonProcessingException ex) {
+            Errors errors = new MapBindingResult(new HashMap<>(), "eventDto");
+            errors.reject("malformedJson", ex.getOriginalMessage());
+            result.failed(index, errors);
+        }
+
+        flush(batch, result);
+        return result;
+    }
+
+    private Errors validate(EventDto eventDto) {
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        this.validator.validate(eventDto, errors);
+        if (!errors.hasErrors()) {
+            this.eventValidator.validate(eventDto, errors);
+        }
+        return errors;
+    }
+
+    private void flush(List<Event> batch, EventBulkResult result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        this.eventTextIndex.indexAll(this.eventBulkWriter.write(batch));
+        this.eventCountCache.invalidate();
+        result.created(batch.size());
+        batch.clear();
+    }
+}
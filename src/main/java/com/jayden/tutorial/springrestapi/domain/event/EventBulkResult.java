@@ -0,0 +1,36 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.validation.Errors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class EventBulkResult {
+
+    private int created;
+
+    private int failed;
+
+    private final List<Failure> failures = new ArrayList<>();
+
+    void created(int count) {
+        this.created += count;
+    }
+
+    void failed(int index, Errors errors) {
+        this.failed++;
+        this.failures.add(new Failure(index, errors));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Failure {
+
+        private final int index;
+
+        private final Errors errors;
+    }
+}
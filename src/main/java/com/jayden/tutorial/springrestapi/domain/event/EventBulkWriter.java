@@ -0,0 +1,34 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+@Service
+public class EventBulkWriter {
+
+    private final EventRepository eventRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public EventBulkWriter(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Persists the events in one transaction. Ids come from the pooled sequence, so the inserts are sent
+     * as JDBC batches of {@code hibernate.jdbc.batch_size} on flush.
+     */
+    @Transactional
+    public List<Event> write(List<Event> events) {
+        List<Event> savedEvents = this.eventRepository.saveAll(events);
+        this.entityManager.flush();
+        this.entityManager.clear();
+        return savedEvents;
+    }
+}
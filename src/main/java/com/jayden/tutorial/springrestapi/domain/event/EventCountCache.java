@@ -0,0 +1,81 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serves the event total from memory and refreshes it in the background once it is older than the TTL,
+ * so listing requests never wait on {@code select count(*)} except for the very first one.
+ */
+@Slf4j
+@Component
+public class EventCountCache implements DisposableBean {
+
+    private final EventRepository eventRepository;
+
+    private final long ttlMillis;
+
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "event-count-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile long count = -1;
+
+    private volatile long refreshedAt;
+
+    public EventCountCache(EventRepository eventRepository, AppProperties appProperties) {
+        this.eventRepository = eventRepository;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(appProperties.getEventCountCacheSeconds());
+    }
+
+    public long approximateCount() {
+        long current = this.count;
+        if (current < 0) {
+            return refresh();
+        }
+
+        if (System.currentTimeMillis() - this.refreshedAt > this.ttlMillis && this.refreshing.compareAndSet(false, true)) {
+            this.refresher.execute(() -> {
+                try {
+                    refresh();
+                } catch (RuntimeException ex) {
+                    log.warn("Failed to refresh event count", ex);
+                } finally {
+                    this.refreshing.set(false);
+                }
+            });
+        }
+        return current;
+    }
+
+    /**
+     * Marks the cached total as stale; the next read triggers a background refresh.
+     */
+    public void invalidate() {
+        this.refreshedAt = 0;
+    }
+
+    private long refresh() {
+        long refreshed = this.eventRepository.count();
+        this.count = refreshed;
+        this.refreshedAt = System.currentTimeMillis();
+        return refreshed;
+    }
+
+    @Override
+    public void destroy() {
+        this.refresher.shutdownNow();
+    }
+}
@@ -0,0 +1,131 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Opaque keyset position over the (sort key, id) tuple of events.
+ *
+ * Encoded as base64url of {@code property|direction|backward|id|value} so clients only follow links
+ * and never build cursors themselves.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private static final String NULL_VALUE = "~";
+
+    private static final String VALUE_PREFIX = "=";
+
+    private static final Map<String, Function<String, Comparable<?>>> SORT_KEYS = Map.of(
+        "id", Long::valueOf,
+        "name", value -> value,
+        "beginEnrollmentDateTime", LocalDateTime::parse,
+        "closeEnrollmentDateTime", LocalDateTime::parse,
+        "beginEventDateTime", LocalDateTime::parse,
+        "endEventDateTime", LocalDateTime::parse,
+        "basePrice", Integer::valueOf,
+        "maxPrice", Integer::valueOf
+    );
+
+    private final String property;
+
+    private final Sort.Direction direction;
+
+    /**
+     * true when the cursor walks towards the previous page
+     */
+    private final boolean backward;
+
+    /**
+     * id of the boundary row, null for the first page
+     */
+    private final Long id;
+
+    private final Comparable<?> value;
+
+    public static EventCursor first(Sort sort) {
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc("id"));
+        if (!SORT_KEYS.containsKey(order.getProperty())) {
+            throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+        }
+        return new EventCursor(order.getProperty(), order.getDirection(), false, null, null);
+    }
+
+    public static EventCursor decode(String cursor) {
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] tokens = decoded.split("\\" + SEPARATOR, 5);
+        if (tokens.length != 5 || !SORT_KEYS.containsKey(tokens[0])
+                || !(NULL_VALUE.equals(tokens[4]) || tokens[4].startsWith(VALUE_PREFIX))) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        try {
+            Comparable<?> value = NULL_VALUE.equals(tokens[4])
+                ? null : SORT_KEYS.get(tokens[0]).apply(tokens[4].substring(VALUE_PREFIX.length()));
+            return new EventCursor(tokens[0], Sort.Direction.fromString(tokens[1]),
+                Boolean.parseBoolean(tokens[2]), tokens[3].isEmpty() ? null : Long.valueOf(tokens[3]), value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, ex);
+        }
+    }
+
+    public boolean hasPosition() {
+        return this.id != null;
+    }
+
+    public boolean isAscending() {
+        return this.direction.isAscending();
+    }
+
+    public EventCursor next(Event last) {
+        return at(last, false);
+    }
+
+    public EventCursor previous(Event first) {
+        return at(first, true);
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, property, direction.name(), String.valueOf(backward),
+            id == null ? "" : String.valueOf(id), value == null ? NULL_VALUE : VALUE_PREFIX + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private EventCursor at(Event event, boolean backward) {
+        return new EventCursor(property, direction, backward, event.getId(), keyOf(event));
+    }
+
+    private Comparable<?> keyOf(Event event) {
+        switch (property) {
+            case "id":
+                return event.getId();
+            case "name":
+                return event.getName();
+            case "beginEnrollmentDateTime":
+                return event.getBeginEnrollmentDateTime();
+            case "closeEnrollmentDateTime":
+                return event.getCloseEnrollmentDateTime();
+            case "beginEventDateTime":
+                return event.getBeginEventDateTime();
+            case "endEventDateTime":
+                return event.getEndEventDateTime();
+            case "basePrice":
+                return event.getBasePrice();
+            case "maxPrice":
+                return event.getMaxPrice();
+            default:
+                throw new IllegalStateException("Unsupported sort property: " + property);
+        }
+    }
+}
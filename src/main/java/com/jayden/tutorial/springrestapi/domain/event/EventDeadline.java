@@ -0,0 +1,18 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Id of an event and one of its enrollment date times, enough to schedule a status transition.
+ */
+@Getter
+@AllArgsConstructor
+public class EventDeadline {
+
+    private final Long id;
+
+    private final LocalDateTime at;
+}
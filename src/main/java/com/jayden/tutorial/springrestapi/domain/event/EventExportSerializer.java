@@ -0,0 +1,50 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes one export row field by field; does not use the {@link SerializerProvider}.
+ */
+public class EventExportSerializer extends JsonSerializer<Event> {
+
+    @Override
+    public void serialize(Event event, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeNumberField("id", event.getId());
+        jsonGenerator.writeStringField("name", event.getName());
+        jsonGenerator.writeStringField("description", event.getDescription());
+        writeDateTimeField(jsonGenerator, "beginEnrollmentDateTime", event.getBeginEnrollmentDateTime());
+        writeDateTimeField(jsonGenerator, "closeEnrollmentDateTime", event.getCloseEnrollmentDateTime());
+        writeDateTimeField(jsonGenerator, "beginEventDateTime", event.getBeginEventDateTime());
+        writeDateTimeField(jsonGenerator, "endEventDateTime", event.getEndEventDateTime());
+        jsonGenerator.writeStringField("location", event.getLocation());
+        jsonGenerator.writeNumberField("basePrice", event.getBasePrice());
+        jsonGenerator.writeNumberField("maxPrice", event.getMaxPrice());
+        jsonGenerator.writeNumberField("limitOfEnrollment", event.getLimitOfEnrollment());
+        jsonGenerator.writeBooleanField("offline", event.isOffline());
+        jsonGenerator.writeBooleanField("free", event.isFree());
+        jsonGenerator.writeStringField("eventStatus", event.getEventStatus() == null ? null : event.getEventStatus().name());
+        if (event.getManager() == null) {
+            jsonGenerator.writeNullField("manager");
+        } else {
+            jsonGenerator.writeObjectFieldStart("manager");
+            jsonGenerator.writeNumberField("id", event.getManagerId());
+            jsonGenerator.writeEndObject();
+        }
+        jsonGenerator.writeEndObject();
+    }
+
+    private void writeDateTimeField(JsonGenerator jsonGenerator, String fieldName, LocalDateTime value) throws IOException {
+        if (value == null) {
+            jsonGenerator.writeNullField(fieldName);
+        } else {
+            jsonGenerator.writeStringField(fieldName, DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        }
+    }
+}
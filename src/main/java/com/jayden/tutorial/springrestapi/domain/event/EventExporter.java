@@ -0,0 +1,65 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams the whole event table as newline-delimited JSON. Rows are written as they are fetched and the
+ * persistence context is cleared every {@code my-app.export-clear-interval} rows, so heap use does not
+ * grow with the number of events.
+ */
+@Service
+public class EventExporter {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private final EventRepository eventRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final int clearInterval;
+
+    private final JsonSerializer<Event> eventSerializer = new EventExportSerializer();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public EventExporter(EventRepository eventRepository, ObjectMapper objectMapper, AppProperties appProperties) {
+        this.eventRepository = eventRepository;
+        this.objectMapper = objectMapper;
+        this.clearInterval = appProperties.getExportClearInterval();
+    }
+
+    @Transactional(readOnly = true)
+    public long export(OutputStream outputStream) throws IOException {
+        long count = 0;
+        try (Stream<Event> events = this.eventRepository.streamAll();
+             JsonGenerator jsonGenerator = this.objectMapper.getFactory().createGenerator(outputStream)) {
+            jsonGenerator.setRootValueSeparator(null);
+
+            Iterator<Event> iterator = events.iterator();
+            while (iterator.hasNext()) {
+                this.eventSerializer.serialize(iterator.next(), jsonGenerator, null);
+                jsonGenerator.writeRaw('\n');
+
+                if (++count % this.clearInterval == 0) {
+                    jsonGenerator.flush();
+                    this.entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,36 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.Resources;
+
+/**
+ * Registers the streaming event serializers.
+ *
+ * The envelope serializer wraps the default one of {@link Resources} and {@link PagedResources},
+ * so lists of anything other than events keep their stock HAL rendering.
+ */
+public class EventJsonModule extends SimpleModule {
+
+    public EventJsonModule(String collectionRel) {
+        super(EventJsonModule.class.getSimpleName());
+        addSerializer(Event.class, new EventSerializer());
+        addSerializer(EventResource.class, new EventResourceSerializer());
+        setSerializerModifier(new BeanSerializerModifier() {
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+                Class<?> beanClass = beanDesc.getBeanClass();
+                if (beanClass == Resources.class || beanClass == PagedResources.class) {
+                    return new EventResourcesSerializer((JsonSerializer<Object>) serializer, collectionRel);
+                }
+                return serializer;
+            }
+        });
+    }
+}
@@ -0,0 +1,202 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * JSON Merge Patch (RFC 7396) of the fields of {@link EventDto}: a member replaces the field, {@code null} clears
+ * it and an absent member leaves it alone. Only {@code location} may be cleared.
+ *
+ * The patch is validated on its own when read. A rule between a patched field and one the patch leaves alone can
+ * only be checked against the stored event, which the UPDATE does in its WHERE clause and
+ * {@link #validate(Event, Errors)} repeats to explain a rejected patch.
+ */
+public class EventPatch {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    public static final String END_EVENT_DATE_TIME = "endEventDateTime";
+
+    /**
+     * fields the end of the event may not come before
+     */
+    public static final List<String> BEFORE_END_EVENT =
+        List.of("beginEventDateTime", "closeEnrollmentDateTime", "beginEnrollmentDateTime");
+
+    private static final Map<String, Function<Event, Object>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("name", Event::getName);
+        FIELDS.put("description", Event::getDescription);
+        FIELDS.put("beginEnrollmentDateTime", Event::getBeginEnrollmentDateTime);
+        FIELDS.put("closeEnrollmentDateTime", Event::getCloseEnrollmentDateTime);
+        FIELDS.put("beginEventDateTime", Event::getBeginEventDateTime);
+        FIELDS.put("endEventDateTime", Event::getEndEventDateTime);
+        FIELDS.put("location", Event::getLocation);
+        FIELDS.put("basePrice", Event::getBasePrice);
+        FIELDS.put("maxPrice", Event::getMaxPrice);
+        FIELDS.put("limitOfEnrollment", Event::getLimitOfEnrollment);
+    }
+
+    private final Map<String, Object> values = new LinkedHashMap<>();
+
+    private final Errors errors = new MapBindingResult(this.values, "eventDto");
+
+    private EventPatch() {
+    }
+
+    public static EventPatch of(JsonNode body) {
+        EventPatch patch = new EventPatch();
+        if (body == null || !body.isObject()) {
+            patch.errors.reject("wrongPatch", "Merge patch must be a JSON object");
+            return patch;
+        }
+        Iterator<Map.Entry<String, JsonNode>> members = body.fields();
+        while (members.hasNext()) {
+            Map.Entry<String, JsonNode> member = members.next();
+            patch.read(member.getKey(), member.getValue());
+        }
+        if (!patch.errors.hasErrors()) {
+            patch.validate(null, patch.errors);
+        }
+        return patch;
+    }
+
+    public Errors getErrors() {
+        return this.errors;
+    }
+
+    /**
+     * patched fields and their new values, in the order of {@link EventDto}
+     */
+    public Map<String, Object> getValues() {
+        Map<String, Object> ordered = new LinkedHashMap<>();
+        for (String field : FIELDS.keySet()) {
+            if (this.values.containsKey(field)) {
+                ordered.put(field, this.values.get(field));
+            }
+        }
+        return ordered;
+    }
+
+    public boolean isEmpty() {
+        return this.values.isEmpty();
+    }
+
+    public boolean has(String field) {
+        return this.values.containsKey(field);
+    }
+
+    public Object get(String field) {
+        return this.values.get(field);
+    }
+
+    /**
+     * {@code offline} after the patch, meaningful only when it patches {@code location}; see {@link Event#update()}
+     */
+    public boolean isOffline() {
+        String location = (String) this.values.get("location");
+        return location != null && !location.isBlank();
+    }
+
+    /**
+     * Applies the rules of {@link EventValidator} to the patched fields, taking the fields the patch leaves alone
+     * from {@code current}. Without a current event, rules involving such fields are skipped.
+     */
+    public void validate(Event current, Errors errors) {
+        Object basePrice = valueOf("basePrice", current);
+        Object maxPrice = valueOf("maxPrice", current);
+        if ((has("basePrice") || has("maxPrice")) && basePrice != null && maxPrice != null
+                && (int) basePrice > (int) maxPrice && (int) maxPrice != 0) {
+            errors.rejectValue("basePrice", "wrongValue", "BasePrice is wrong.");
+            errors.rejectValue("maxPrice", "wrongValue", "MaxPrice is wrong.");
+            errors.reject("wrongPrices", "Wrong Prices");
+        }
+
+        LocalDateTime endEventDateTime = (LocalDateTime) valueOf(END_EVENT_DATE_TIME, current);
+        for (String field : BEFORE_END_EVENT) {
+            LocalDateTime other = (LocalDateTime) valueOf(field, current);
+            if ((has(END_EVENT_DATE_TIME) || has(field)) && endEventDateTime != null && other != null
+                    && endEventDateTime.isBefore(other)) {
+                errors.rejectValue(END_EVENT_DATE_TIME, "wrongValue", "EndEventDateTime is wrong");
+                break;
+            }
+        }
+
+        if (has("limitOfEnrollment") && current != null) {
+            EventValidator.validateLimit((int) get("limitOfEnrollment"), current, errors);
+        }
+    }
+
+    private Object valueOf(String field, Event current) {
+        if (has(field)) {
+            return get(field);
+        }
+        return current == null ? null : FIELDS.get(field).apply(current);
+    }
+
+    private void read(String field, JsonNode node) {
+        if (!FIELDS.containsKey(field)) {
+            this.errors.rejectValue(field, "unknownField", "Field cannot be patched");
+            return;
+        }
+        switch (field) {
+            case "name":
+            case "description":
+                if (node.isNull() || (node.isTextual() && node.textValue().isEmpty())) {
+                    this.errors.rejectValue(field, "NotEmpty", "must not be empty");
+                } else if (node.isTextual()) {
+                    this.values.put(field, node.textValue());
+                } else {
+                    typeMismatch(field);
+                }
+                break;
+            case "location":
+                if (node.isNull() || node.isTextual()) {
+                    this.values.put(field, node.textValue());
+                } else {
+                    typeMismatch(field);
+                }
+                break;
+            case "basePrice":
+            case "maxPrice":
+            case "limitOfEnrollment":
+                if (node.isNull()) {
+                    this.errors.rejectValue(field, "NotNull", "must not be null");
+                } else if (!node.isIntegralNumber() || !node.canConvertToInt()) {
+                    typeMismatch(field);
+                } else if (node.intValue() < 0) {
+                    this.values.put(field, node.intValue());
+                    this.errors.rejectValue(field, "Min", "must be greater than or equal to 0");
+                } else {
+                    this.values.put(field, node.intValue());
+                }
+                break;
+            default:
+                if (node.isNull()) {
+                    this.errors.rejectValue(field, "NotNull", "must not be null");
+                } else if (!node.isTextual()) {
+                    typeMismatch(field);
+                } else {
+                    try {
+                        this.values.put(field, LocalDateTime.parse(node.textValue()));
+                    } catch (DateTimeParseException ex) {
+                        typeMismatch(field);
+                    }
+                }
+        }
+    }
+
+    private void typeMismatch(String field) {
+        this.errors.rejectValue(field, "typeMismatch", "Wrong type for " + field);
+    }
+}
@@ -1,15 +1,14 @@
 package com.jayden.tutorial.springrestapi.domain.event;
 
-import com.jayden.tutorial.springrestapi.controller.EventController;
+import com.jayden.tutorial.springrestapi.common.ApiLinks;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
-
 public class EventResource extends Resource<Event> {
 
     public EventResource(Event event, Link... links) {
-        super(event, links);
-        add(linkTo(EventController.class).slash(event.getId()).withSelfRel());
+        super(event);
+        add(ApiLinks.event(event.getId(), Link.REL_SELF));
+        add(links);
     }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.hateoas.Link;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes an {@link EventResource} as HAL: the unwrapped event followed by {@code _links}.
+ */
+public class EventResourceSerializer extends JsonSerializer<EventResource> {
+
+    static final SerializedString LINKS = new SerializedString("_links");
+
+    private static final SerializedString HREF = new SerializedString("href");
+
+    @Override
+    public void serialize(EventResource resource, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        jsonGenerator.writeStartObject(resource);
+        EventSerializer.writeFields(resource.getContent(), jsonGenerator);
+        writeLinks(resource.getLinks(), jsonGenerator, serializerProvider);
+        jsonGenerator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code _links} the way the HAL link list serializer does: grouped by rel in order of
+     * appearance, a single object for one link and an array for several, nothing when empty.
+     * Only plain links are written inline, anything carrying more than an href goes through the provider.
+     */
+    static void writeLinks(List<Link> links, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        if (links.isEmpty()) {
+            return;
+        }
+        jsonGenerator.writeFieldName(LINKS);
+        jsonGenerator.writeStartObject();
+        if (links.size() == 1) {
+            jsonGenerator.writeFieldName(links.get(0).getRel());
+            writeLink(links.get(0), jsonGenerator, serializerProvider);
+        } else {
+            Map<String, List<Link>> linksByRel = new LinkedHashMap<>();
+            for (Link link : links) {
+                linksByRel.computeIfAbsent(link.getRel(), rel -> new ArrayList<>(1)).add(link);
+            }
+            for (Map.Entry<String, List<Link>> entry : linksByRel.entrySet()) {
+                jsonGenerator.writeFieldName(entry.getKey());
+                if (entry.getValue().size() == 1) {
+                    writeLink(entry.getValue().get(0), jsonGenerator, serializerProvider);
+                } else {
+                    jsonGenerator.writeStartArray();
+                    for (Link link : entry.getValue()) {
+                        writeLink(link, jsonGenerator, serializerProvider);
+                    }
+                    jsonGenerator.writeEndArray();
+                }
+            }
+        }
+        jsonGenerator.writeEndObject();
+    }
+
+    private static void writeLink(Link link, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        if (!isPlain(link)) {
+            serializerProvider.defaultSerializeValue(link, jsonGenerator);
+            return;
+        }
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName(HREF);
+        jsonGenerator.writeString(link.getHref());
+        jsonGenerator.writeEndObject();
+    }
+
+    private static boolean isPlain(Link link) {
+        return !link.isTemplated()
+            && !StringUtils.hasLength(link.getHreflang())
+            && !StringUtils.hasLength(link.getMedia())
+            && !StringUtils.hasLength(link.getTitle())
+            && !StringUtils.hasLength(link.getType())
+            && !StringUtils.hasLength(link.getDeprecation());
+    }
+}
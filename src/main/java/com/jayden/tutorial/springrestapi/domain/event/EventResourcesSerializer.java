@@ -0,0 +1,98 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.Resources;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Writes the HAL envelope of an event list ({@code _embedded}, {@code _links}, {@code page}) when every
+ * element is an {@link EventResource}; any other {@link Resources} is handed to the default serializer.
+ */
+public class EventResourcesSerializer extends JsonSerializer<Resources<?>> implements ContextualSerializer, ResolvableSerializer {
+
+    private static final SerializedString EMBEDDED = new SerializedString("_embedded");
+
+    private static final String PAGE = "page";
+
+    private final JsonSerializer<Object> defaultSerializer;
+
+    private final SerializedString collectionRel;
+
+    private final EventResourceSerializer eventResourceSerializer = new EventResourceSerializer();
+
+    public EventResourcesSerializer(JsonSerializer<Object> defaultSerializer, String collectionRel) {
+        this(defaultSerializer, new SerializedString(collectionRel));
+    }
+
+    private EventResourcesSerializer(JsonSerializer<Object> defaultSerializer, SerializedString collectionRel) {
+        this.defaultSerializer = defaultSerializer;
+        this.collectionRel = collectionRel;
+    }
+
+    /**
+     * The wrapped bean serializer only gets its HAL property serializers once it is resolved.
+     */
+    @Override
+    public void resolve(SerializerProvider serializerProvider) throws JsonMappingException {
+        if (this.defaultSerializer instanceof ResolvableSerializer) {
+            ((ResolvableSerializer) this.defaultSerializer).resolve(serializerProvider);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> createContextual(SerializerProvider serializerProvider, BeanProperty property) throws JsonMappingException {
+        if (!(this.defaultSerializer instanceof ContextualSerializer)) {
+            return this;
+        }
+        JsonSerializer<Object> contextual = (JsonSerializer<Object>) ((ContextualSerializer) this.defaultSerializer)
+            .createContextual(serializerProvider, property);
+        return contextual == this.defaultSerializer ? this : new EventResourcesSerializer(contextual, this.collectionRel);
+    }
+
+    @Override
+    public void serialize(Resources<?> resources, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        Collection<?> content = resources.getContent();
+        if (!isEventResources(content)) {
+            this.defaultSerializer.serialize(resources, jsonGenerator, serializerProvider);
+            return;
+        }
+
+        jsonGenerator.writeStartObject(resources);
+        if (!content.isEmpty()) {
+            jsonGenerator.writeFieldName(EMBEDDED);
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeFieldName(this.collectionRel);
+            jsonGenerator.writeStartArray();
+            for (Object eventResource : content) {
+                this.eventResourceSerializer.serialize((EventResource) eventResource, jsonGenerator, serializerProvider);
+            }
+            jsonGenerator.writeEndArray();
+            jsonGenerator.writeEndObject();
+        }
+        EventResourceSerializer.writeLinks(resources.getLinks(), jsonGenerator, serializerProvider);
+        if (resources instanceof PagedResources) {
+            serializerProvider.defaultSerializeField(PAGE, ((PagedResources<?>) resources).getMetadata(), jsonGenerator);
+        }
+        jsonGenerator.writeEndObject();
+    }
+
+    private static boolean isEventResources(Collection<?> content) {
+        for (Object element : content) {
+            if (!(element instanceof EventResource)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,116 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Optional filters of the event list. Every filter is a single predicate on one column, each backed by an
+ * index on {@link Event} that starts with that column; ranges include the lower bound and, for dates,
+ * exclude the upper bound.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSearch {
+
+    private EventStatus eventStatus;
+
+    private Boolean free;
+
+    private Boolean offline;
+
+    private Integer basePriceFrom;
+
+    private Integer basePriceTo;
+
+    private Integer maxPriceFrom;
+
+    private Integer maxPriceTo;
+
+    /**
+     * window on the enrollment opening time
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime enrollmentFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime enrollmentTo;
+
+    /**
+     * window on the event start time
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime eventFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime eventTo;
+
+    /**
+     * account id of the manager
+     */
+    private Long manager;
+
+    public boolean isEmpty() {
+        return eventStatus == null && free == null && offline == null
+            && basePriceFrom == null && basePriceTo == null && maxPriceFrom == null && maxPriceTo == null
+            && enrollmentFrom == null && enrollmentTo == null && eventFrom == null && eventTo == null
+            && manager == null;
+    }
+
+    public Specification<Event> toSpecification() {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (eventStatus != null) {
+                predicates.add(builder.equal(root.get("eventStatus"), eventStatus));
+            }
+            if (free != null) {
+                predicates.add(builder.equal(root.get("free"), free));
+            }
+            if (offline != null) {
+                predicates.add(builder.equal(root.get("offline"), offline));
+            }
+            addRange(predicates, builder, root.get("basePrice"), basePriceFrom, basePriceTo);
+            addRange(predicates, builder, root.get("maxPrice"), maxPriceFrom, maxPriceTo);
+            addWindow(predicates, builder, root.get("beginEnrollmentDateTime"), enrollmentFrom, enrollmentTo);
+            addWindow(predicates, builder, root.get("beginEventDateTime"), eventFrom, eventTo);
+            if (manager != null) {
+                // compares the foreign key column, no join to account
+                predicates.add(builder.equal(root.get("manager").get("id"), manager));
+            }
+            return builder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static void addRange(List<Predicate> predicates, CriteriaBuilder builder, Path<Integer> path,
+                                 Integer from, Integer to) {
+        if (from != null && to != null) {
+            predicates.add(builder.between(path, from, to));
+        } else if (from != null) {
+            predicates.add(builder.greaterThanOrEqualTo(path, from));
+        } else if (to != null) {
+            predicates.add(builder.lessThanOrEqualTo(path, to));
+        }
+    }
+
+    private static void addWindow(List<Predicate> predicates, CriteriaBuilder builder, Path<LocalDateTime> path,
+                                  LocalDateTime from, LocalDateTime to) {
+        if (from != null) {
+            predicates.add(builder.greaterThanOrEqualTo(path, from));
+        }
+        if (to != null) {
+            predicates.add(builder.lessThan(path, to));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes an event in the same shape as the bean serializer, field by field in declaration order.
+ *
+ * Field names are pre-encoded once and dates use a shared formatter, so a response does not go
+ * through bean introspection or property writers.
+ */
+public class EventSerializer extends JsonSerializer<Event> {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString BEGIN_ENROLLMENT_DATE_TIME = new SerializedString("beginEnrollmentDateTime");
+    private static final SerializedString CLOSE_ENROLLMENT_DATE_TIME = new SerializedString("closeEnrollmentDateTime");
+    private static final SerializedString BEGIN_EVENT_DATE_TIME = new SerializedString("beginEventDateTime");
+    private static final SerializedString END_EVENT_DATE_TIME = new SerializedString("endEventDateTime");
+    private static final SerializedString LOCATION = new SerializedString("location");
+    private static final SerializedString BASE_PRICE = new SerializedString("basePrice");
+    private static final SerializedString MAX_PRICE = new SerializedString("maxPrice");
+    private static final SerializedString LIMIT_OF_ENROLLMENT = new SerializedString("limitOfEnrollment");
+    private static final SerializedString OFFLINE = new SerializedString("offline");
+    private static final SerializedString FREE = new SerializedString("free");
+    private static final SerializedString EVENT_STATUS = new SerializedString("eventStatus");
+    private static final SerializedString MANAGER = new SerializedString("manager");
+
+    @Override
+    public void serialize(Event event, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        jsonGenerator.writeStartObject(event);
+        writeFields(event, jsonGenerator);
+        jsonGenerator.writeEndObject();
+    }
+
+    /**
+     * Used for the {@code @JsonUnwrapped} content of a {@code Resource<Event>} that is not an {@link EventResource}.
+     */
+    @Override
+    public JsonSerializer<Event> unwrappingSerializer(NameTransformer unwrapper) {
+        return new JsonSerializer<>() {
+
+            @Override
+            public void serialize(Event event, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+                writeFields(event, jsonGenerator);
+            }
+
+            @Override
+            public boolean isUnwrappingSerializer() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Writes the event properties into an object the caller has already started.
+     */
+    static void writeFields(Event event, JsonGenerator jsonGenerator) throws IOException {
+        jsonGenerator.writeFieldName(ID);
+        if (event.getId() == null) {
+            jsonGenerator.writeNull();
+        } else {
+            jsonGenerator.writeNumber(event.getId());
+        }
+        writeString(jsonGenerator, NAME, event.getName());
+        writeString(jsonGenerator, DESCRIPTION, event.getDescription());
+        writeDateTime(jsonGenerator, BEGIN_ENROLLMENT_DATE_TIME, event.getBeginEnrollmentDateTime());
+        writeDateTime(jsonGenerator, CLOSE_ENROLLMENT_DATE_TIME, event.getCloseEnrollmentDateTime());
+        writeDateTime(jsonGenerator, BEGIN_EVENT_DATE_TIME, event.getBeginEventDateTime());
+        writeDateTime(jsonGenerator, END_EVENT_DATE_TIME, event.getEndEventDateTime());
+        writeString(jsonGenerator, LOCATION, event.getLocation());
+        jsonGenerator.writeFieldName(BASE_PRICE);
+        jsonGenerator.writeNumber(event.getBasePrice());
+        jsonGenerator.writeFieldName(MAX_PRICE);
+        jsonGenerator.writeNumber(event.getMaxPrice());
+        jsonGenerator.writeFieldName(LIMIT_OF_ENROLLMENT);
+        jsonGenerator.writeNumber(event.getLimitOfEnrollment());
+        jsonGenerator.writeFieldName(OFFLINE);
+        jsonGenerator.writeBoolean(event.isOffline());
+        jsonGenerator.writeFieldName(FREE);
+        jsonGenerator.writeBoolean(event.isFree());
+        writeString(jsonGenerator, EVENT_STATUS, event.getEventStatus() == null ? null : event.getEventStatus().name());
+        jsonGenerator.writeFieldName(MANAGER);
+        if (event.getManager() == null) {
+            jsonGenerator.writeNull();
+        } else {
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeFieldName(ID);
+            jsonGenerator.writeNumber(event.getManagerId());
+            jsonGenerator.writeEndObject();
+        }
+    }
+
+    private static void writeString(JsonGenerator jsonGenerator, SerializableString name, String value) throws IOException {
+        jsonGenerator.writeFieldName(name);
+        if (value == null) {
+            jsonGenerator.writeNull();
+        } else {
+            jsonGenerator.writeString(value);
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator jsonGenerator, SerializableString name, LocalDateTime value) throws IOException {
+        jsonGenerator.writeFieldName(name);
+        if (value == null) {
+            jsonGenerator.writeNull();
+        } else {
+            jsonGenerator.writeString(DATE_TIME_FORMATTER.format(value));
+        }
+    }
+}
@@ -2,5 +2,5 @@ package com.jayden.tutorial.springrestapi.domain.event;
 
 public enum EventStatus {
 
-    DRAFT, PUBLISHED, BEGAN_ENROLLMENT;
+    DRAFT, PUBLISHED, BEGAN_ENROLLMENT, CLOSED_ENROLLMENT;
 }
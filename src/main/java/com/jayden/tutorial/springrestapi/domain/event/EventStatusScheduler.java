@@ -0,0 +1,215 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens enrollment of published events when {@code beginEnrollmentDateTime} passes and closes it when
+ * {@code closeEnrollmentDateTime} passes.
+ *
+ * Upcoming transitions wait in an {@link EventStatusTimeline}, seeded at startup from the status and date time
+ * indexes. A single thread wakes every {@code my-app.event-status-tick-millis}, takes what is due and applies it
+ * as one UPDATE per target status and up to {@value #MAX_IDS_PER_UPDATE} events. Each UPDATE checks status and
+ * date times itself, so the database stays the source of truth: startup first applies whatever fell due while
+ * the application was down, and several instances can run the scheduler side by side.
+ */
+@Slf4j
+@Component
+public class EventStatusScheduler implements DisposableBean {
+
+    static final int MAX_IDS_PER_UPDATE = 1000;
+
+    private final EventStatusTimeline timeline = new EventStatusTimeline();
+
+    private final EventStatusWriter eventStatusWriter;
+
+    private final Clock clock;
+
+    private final long tickMillis;
+
+    private final Map<EventStatus, Counter> transitionCounters = new EnumMap<>(EventStatus.class);
+
+    private ScheduledExecutorService ticker;
+
+    public EventStatusScheduler(EventStatusWriter eventStatusWriter, Clock clock, AppProperties appProperties,
+                                MeterRegistry meterRegistry) {
+        this.eventStatusWriter = eventStatusWriter;
+        this.clock = clock;
+        this.tickMillis = appProperties.getEventStatusTickMillis();
+        for (EventStatus target : List.of(EventStatus.BEGAN_ENROLLMENT, EventStatus.CLOSED_ENROLLMENT)) {
+            this.transitionCounters.put(target, Counter.builder("events.status.transitions")
+                .description("events moved to the status by the scheduler")
+                .tag("status", target.name())
+                .register(meterRegistry));
+        }
+        Gauge.builder("events.status.scheduled", this.timeline, EventStatusTimeline::size)
+            .description("status transitions waiting in the scheduler")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reload();
+        if (this.tickMillis > 0) {
+            this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "event-status-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.ticker.scheduleWithFixedDelay(this::tick, this.tickMillis, this.tickMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Applies the overdue transitions, then replaces the timeline with the upcoming ones.
+     */
+    public void reload() {
+        long startedAt = System.currentTimeMillis();
+        Instant instant = this.clock.instant();
+        LocalDateTime now = LocalDateTime.ofInstant(instant, this.clock.getZone());
+        int overdue = this.eventStatusWriter.applyOverdue(now, modifiedAt(instant));
+        List<EventStatusTimeline.Transition> upcoming = this.eventStatusWriter.findUpcoming(now, this.clock.getZone());
+        this.timeline.clear();
+        this.timeline.scheduleAll(upcoming);
+        log.info("Applied {} overdue event status transitions and scheduled {} in {} ms", overdue, upcoming.size(),
+            System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * Schedules the transitions of a published or enrolling event, once the current transaction, if any, commits.
+     * Transitions already due are applied on the next tick.
+     */
+    public void schedule(Event event) {
+        scheduleAfterCommit(transitionsOf(event));
+    }
+
+    /**
+     * Schedules the enrollment date times an event was changed to without loading it; null means unchanged.
+     * The status is not known here, a transition that does not apply to it changes nothing when it falls due.
+     */
+    public void schedule(Long eventId, LocalDateTime beginEnrollmentDateTime, LocalDateTime closeEnrollmentDateTime) {
+        List<EventStatusTimeline.Transition> transitions = new ArrayList<>(2);
+        if (beginEnrollmentDateTime != null) {
+            transitions.add(new EventStatusTimeline.Transition(eventId, EventStatus.BEGAN_ENROLLMENT,
+                epochMillis(beginEnrollmentDateTime)));
+        }
+        if (closeEnrollmentDateTime != null) {
+            transitions.add(new EventStatusTimeline.Transition(eventId, EventStatus.CLOSED_ENROLLMENT,
+                epochMillis(closeEnrollmentDateTime)));
+        }
+        scheduleAfterCommit(transitions);
+    }
+
+    private void scheduleAfterCommit(List<EventStatusTimeline.Transition> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transitions.forEach(this.timeline::schedule);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                transitions.forEach(timeline::schedule);
+            }
+        });
+    }
+
+    /**
+     * Applies every transition due by now. A batch whose UPDATE fails goes back to the timeline for the next tick.
+     *
+     * @return the number of events changed
+     */
+    public int advance() {
+        Instant instant = this.clock.instant();
+        LocalDateTime now = LocalDateTime.ofInstant(instant, this.clock.getZone());
+        Instant modifiedAt = modifiedAt(instant);
+        int changed = 0;
+        List<EventStatusTimeline.Transition> due;
+        while (!(due = this.timeline.pollDue(instant.toEpochMilli(), MAX_IDS_PER_UPDATE)).isEmpty()) {
+            Map<EventStatus, List<Long>> idsByTarget = new EnumMap<>(EventStatus.class);
+            for (EventStatusTimeline.Transition transition : due) {
+                idsByTarget.computeIfAbsent(transition.getTarget(), target -> new ArrayList<>())
+                    .add(transition.getEventId());
+            }
+            try {
+                for (Map.Entry<EventStatus, List<Long>> entry : idsByTarget.entrySet()) {
+                    int applied = this.eventStatusWriter.apply(entry.getKey(), entry.getValue(), now, modifiedAt);
+                    this.transitionCounters.get(entry.getKey()).increment(applied);
+                    changed += applied;
+                }
+            } catch (RuntimeException ex) {
+                this.timeline.scheduleAll(due);
+                throw ex;
+            }
+        }
+        return changed;
+    }
+
+    public EventStatusTimeline getTimeline() {
+        return this.timeline;
+    }
+
+    @Override
+    public void destroy() {
+        if (this.ticker != null) {
+            this.ticker.shutdownNow();
+        }
+    }
+
+    private void tick() {
+        try {
+            advance();
+        } catch (RuntimeException ex) {
+            log.warn("Event status transitions failed, retrying on the next tick", ex);
+        }
+    }
+
+    private List<EventStatusTimeline.Transition> transitionsOf(Event event) {
+        List<EventStatusTimeline.Transition> transitions = new ArrayList<>(2);
+        EventStatus status = event.getEventStatus();
+        if (status == EventStatus.PUBLISHED && event.getBeginEnrollmentDateTime() != null) {
+            transitions.add(new EventStatusTimeline.Transition(event.getId(), EventStatus.BEGAN_ENROLLMENT,
+                epochMillis(event.getBeginEnrollmentDateTime())));
+        }
+        if ((status == EventStatus.PUBLISHED || status == EventStatus.BEGAN_ENROLLMENT)
+                && event.getCloseEnrollmentDateTime() != null) {
+            transitions.add(new EventStatusTimeline.Transition(event.getId(), EventStatus.CLOSED_ENROLLMENT,
+                epochMillis(event.getCloseEnrollmentDateTime())));
+        }
+        return transitions;
+    }
+
+    private long epochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(this.clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * truncated to seconds like {@code Event.modifiedAt}
+     */
+    private static Instant modifiedAt(Instant instant) {
+        return instant.truncatedTo(ChronoUnit.SECONDS);
+    }
+}
@@ -0,0 +1,103 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Upcoming event status transitions ordered by due time in a binary heap, so scheduling is O(log n) and the next
+ * due transition is always at the head. Unlike a timing wheel, transitions months away cost nothing until they
+ * are due.
+ *
+ * Entries are never removed when an event changes: a transition that no longer applies is dropped by the
+ * conditions of the UPDATE that applies it.
+ */
+public class EventStatusTimeline {
+
+    private PriorityQueue<Transition> queue = new PriorityQueue<>();
+
+    public synchronized void schedule(Transition transition) {
+        this.queue.offer(transition);
+    }
+
+    /**
+     * Adds many transitions at once by rebuilding the heap in linear time instead of sifting each one in.
+     */
+    public synchronized void scheduleAll(Collection<Transition> transitions) {
+        List<Transition> merged = new ArrayList<>(this.queue.size() + transitions.size());
+        merged.addAll(this.queue);
+        merged.addAll(transitions);
+        this.queue = new PriorityQueue<>(merged);
+    }
+
+    /**
+     * Removes and returns up to {@code max} transitions due at or before {@code nowMillis}, earliest first.
+     */
+    public synchronized List<Transition> pollDue(long nowMillis, int max) {
+        List<Transition> due = new ArrayList<>(Math.min(max, 64));
+        while (due.size() < max) {
+            Transition head = this.queue.peek();
+            if (head == null || head.getDueMillis() > nowMillis) {
+                break;
+            }
+            due.add(this.queue.poll());
+        }
+        return due;
+    }
+
+    /**
+     * @return the due time of the earliest transition, or -1 when nothing is scheduled
+     */
+    public synchronized long nextDueMillis() {
+        Transition head = this.queue.peek();
+        return head == null ? -1 : head.getDueMillis();
+    }
+
+    public synchronized int size() {
+        return this.queue.size();
+    }
+
+    public synchronized void clear() {
+        this.queue.clear();
+    }
+
+    /**
+     * Ordered by due time, then event id.
+     */
+    public static final class Transition implements Comparable<Transition> {
+
+        private final long eventId;
+
+        private final EventStatus target;
+
+        private final long dueMillis;
+
+        public Transition(long eventId, EventStatus target, long dueMillis) {
+            this.eventId = eventId;
+            this.target = target;
+            this.dueMillis = dueMillis;
+        }
+
+        public long getEventId() {
+            return eventId;
+        }
+
+        /**
+         * {@code BEGAN_ENROLLMENT} or {@code CLOSED_ENROLLMENT}
+         */
+        public EventStatus getTarget() {
+            return target;
+        }
+
+        public long getDueMillis() {
+            return dueMillis;
+        }
+
+        @Override
+        public int compareTo(Transition other) {
+            int byDueTime = Long.compare(this.dueMillis, other.dueMillis);
+            return byDueTime != 0 ? byDueTime : Long.compare(this.eventId, other.eventId);
+        }
+    }
+}
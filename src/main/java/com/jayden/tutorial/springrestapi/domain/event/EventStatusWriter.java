@@ -0,0 +1,77 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The transactions of {@link EventStatusScheduler}. None of them is read-only, so with read replicas they all run
+ * on the primary and never see a lagging copy of the statuses they change.
+ */
+@Service
+public class EventStatusWriter {
+
+    private static final List<EventStatus> OPENABLE = List.of(EventStatus.PUBLISHED);
+
+    private static final List<EventStatus> CLOSABLE = List.of(EventStatus.PUBLISHED, EventStatus.BEGAN_ENROLLMENT);
+
+    private final EventRepository eventRepository;
+
+    public EventStatusWriter(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Applies the transitions of the given events to {@code target}, in one UPDATE.
+     *
+     * @return the number of events changed
+     */
+    @Transactional
+    public int apply(EventStatus target, Collection<Long> ids, LocalDateTime now, Instant modifiedAt) {
+        switch (target) {
+            case BEGAN_ENROLLMENT:
+                return this.eventRepository.openEnrollments(ids, now, modifiedAt);
+            case CLOSED_ENROLLMENT:
+                return this.eventRepository.closeEnrollments(ids, now, modifiedAt);
+            default:
+                throw new IllegalArgumentException("Not a scheduled status: " + target);
+        }
+    }
+
+    /**
+     * Applies every transition that fell due while no scheduler was running, one UPDATE per target status.
+     */
+    @Transactional
+    public int applyOverdue(LocalDateTime now, Instant modifiedAt) {
+        return this.eventRepository.closeEnrollments(null, now, modifiedAt)
+            + this.eventRepository.openEnrollments(null, now, modifiedAt);
+    }
+
+    /**
+     * Loads the transitions due after {@code now} from the status and enrollment date time indexes.
+     */
+    @Transactional
+    public List<EventStatusTimeline.Transition> findUpcoming(LocalDateTime now, ZoneId zone) {
+        List<EventStatusTimeline.Transition> transitions = new ArrayList<>();
+        try (Stream<EventDeadline> openings = this.eventRepository.streamEnrollmentOpenings(OPENABLE, now)) {
+            openings.forEach(deadline -> transitions.add(transition(deadline, EventStatus.BEGAN_ENROLLMENT, zone)));
+        }
+        try (Stream<EventDeadline> closings = this.eventRepository.streamEnrollmentClosings(CLOSABLE, now)) {
+            closings.forEach(deadline -> transitions.add(transition(deadline, EventStatus.CLOSED_ENROLLMENT, zone)));
+        }
+        return transitions;
+    }
+
+    private static EventStatusTimeline.Transition transition(EventDeadline deadline, EventStatus target, ZoneId zone) {
+        return new EventStatusTimeline.Transition(deadline.getId(), target,
+            deadline.getAt().atZone(zone).toInstant().toEpochMilli());
+    }
+}
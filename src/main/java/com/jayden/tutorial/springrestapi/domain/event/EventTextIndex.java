@@ -0,0 +1,264 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory inverted index over event name and description.
+ *
+ * Terms are lower-cased runs of letters and digits, kept in a sorted dictionary so that a prefix query is a
+ * range scan. Each posting holds a weight of three per occurrence in the name and one per occurrence in the
+ * description; a document scores the sum of weight times idf over the query clauses, and every clause must match.
+ * Writers of different events proceed in parallel, readers never lock.
+ */
+@Component
+public class EventTextIndex {
+
+    private static final int NAME_WEIGHT = 3;
+
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    /**
+     * non-empty dictionary terms a single prefix clause expands to, in lexical order
+     */
+    static final int MAX_PREFIX_TERMS = 256;
+
+    private static final Comparator<Map.Entry<Long, Double>> BY_RANK =
+        Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.<Long, Double>comparingByKey());
+
+    private final ConcurrentSkipListMap<String, Map<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+
+    private final Object[] locks = new Object[64];
+
+    public EventTextIndex() {
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Adds or replaces the event. An event older than the indexed copy, by version, is ignored so that a
+     * rebuild running next to live updates cannot put back stale text.
+     */
+    public void index(Event event) {
+        Long id = event.getId();
+        long version = event.getVersion() == null ? -1 : event.getVersion();
+        Map<String, Integer> weights = new HashMap<>();
+        addTerms(weights, event.getName(), NAME_WEIGHT);
+        addTerms(weights, event.getDescription(), DESCRIPTION_WEIGHT);
+
+        synchronized (lockFor(id)) {
+            Document previous = this.documents.get(id);
+            if (previous != null) {
+                if (previous.version > version) {
+                    return;
+                }
+                for (String term : previous.terms) {
+                    if (!weights.containsKey(term)) {
+                        removePosting(term, id);
+                    }
+                }
+            }
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                addPosting(entry.getKey(), id, entry.getValue());
+            }
+            this.documents.put(id, new Document(version, weights.keySet().toArray(new String[0])));
+        }
+    }
+
+    /**
+     * Postings of one term are changed under their own monitor, so a map dropped from the dictionary once it is
+     * empty never takes another document; a writer that finds its map dropped starts over with a new one.
+     */
+    private void addPosting(String term, Long id, int weight) {
+        while (true) {
+            Map<Long, Integer> docs = this.postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>());
+            synchronized (docs) {
+                if (this.postings.get(term) == docs) {
+                    docs.put(id, weight);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void removePosting(String term, Long id) {
+        Map<Long, Integer> docs = this.postings.get(term);
+        if (docs == null) {
+            return;
+        }
+        synchronized (docs) {
+            docs.remove(id);
+            if (docs.isEmpty()) {
+                this.postings.remove(term, docs);
+            }
+        }
+    }
+
+    /**
+     * Indexes the events on the common fork-join pool.
+     */
+    public void indexAll(Collection<Event> events) {
+        events.parallelStream().forEach(this::index);
+    }
+
+    public void clear() {
+        this.documents.clear();
+        this.postings.clear();
+    }
+
+    public int size() {
+        return this.documents.size();
+    }
+
+    /**
+     * Ranks the events matching every clause of the query and returns the ids of the requested page, best first.
+     * A word ending with {@code *} is a prefix clause, any other word must match a whole term.
+     */
+    public Page<Long> search(String query, Pageable pageable) {
+        List<Map<Long, Double>> clauses = new ArrayList<>();
+        for (String word : query.trim().split("\\s+")) {
+            boolean prefix = word.endsWith("*");
+            List<String> terms = tokenize(word);
+            for (int i = 0; i < terms.size(); i++) {
+                boolean last = i == terms.size() - 1;
+                clauses.add(prefix && last ? prefixScores(terms.get(i)) : termScores(terms.get(i)));
+            }
+        }
+        if (clauses.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, 0);
+        }
+
+        Map<Long, Double> scores = intersect(clauses);
+        long end = pageable.getOffset() + pageable.getPageSize();
+        if (pageable.getOffset() >= scores.size()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, scores.size());
+        }
+
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(BY_RANK.reversed());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > end) {
+                top.poll();
+            }
+        }
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(top);
+        ranked.sort(BY_RANK);
+
+        List<Long> ids = new ArrayList<>(pageable.getPageSize());
+        for (int i = (int) pageable.getOffset(); i < ranked.size(); i++) {
+            ids.add(ranked.get(i).getKey());
+        }
+        return new PageImpl<>(ids, pageable, scores.size());
+    }
+
+    private Map<Long, Double> termScores(String term) {
+        Map<Long, Double> scores = new HashMap<>();
+        addScores(scores, this.postings.get(term));
+        return scores;
+    }
+
+    private Map<Long, Double> prefixScores(String prefix) {
+        Map<Long, Double> scores = new HashMap<>();
+        NavigableMap<String, Map<Long, Integer>> range = this.postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        Iterator<Map<Long, Integer>> iterator = range.values().iterator();
+        int terms = 0;
+        while (terms < MAX_PREFIX_TERMS && iterator.hasNext()) {
+            Map<Long, Integer> docs = iterator.next();
+            // a term whose last document is being removed does not count
+            if (!docs.isEmpty()) {
+                addScores(scores, docs);
+                terms++;
+            }
+        }
+        return scores;
+    }
+
+    private void addScores(Map<Long, Double> scores, Map<Long, Integer> docs) {
+        if (docs == null || docs.isEmpty()) {
+            return;
+        }
+        double idf = Math.log(1 + (double) this.documents.size() / docs.size());
+        for (Map.Entry<Long, Integer> posting : docs.entrySet()) {
+            scores.merge(posting.getKey(), posting.getValue() * idf, Double::sum);
+        }
+    }
+
+    /**
+     * Walks the smallest clause and keeps only the documents every other clause also matched.
+     */
+    private static Map<Long, Double> intersect(List<Map<Long, Double>> clauses) {
+        clauses.sort(Comparator.comparingInt(Map::size));
+        Map<Long, Double> result = new HashMap<>(clauses.get(0));
+        for (int i = 1; i < clauses.size() && !result.isEmpty(); i++) {
+            Map<Long, Double> clause = clauses.get(i);
+            result.entrySet().removeIf(entry -> {
+                Double score = clause.get(entry.getKey());
+                if (score == null) {
+                    return true;
+                }
+                entry.setValue(entry.getValue() + score);
+                return false;
+            });
+        }
+        return result;
+    }
+
+    private static void addTerms(Map<String, Integer> weights, String text, int weight) {
+        for (String term : tokenize(text)) {
+            weights.merge(term, weight, Integer::sum);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private Object lockFor(Long id) {
+        return this.locks[Math.floorMod(id.hashCode(), this.locks.length)];
+    }
+
+    private static final class Document {
+
+        private final long version;
+
+        private final String[] terms;
+
+        private Document(long version, String[] terms) {
+            this.version = version;
+            this.terms = terms;
+        }
+    }
+}
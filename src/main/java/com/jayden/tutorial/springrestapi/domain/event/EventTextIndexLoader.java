@@ -0,0 +1,71 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Rebuilds the {@link EventTextIndex} from the repository once the application is ready.
+ *
+ * Rows are streamed on one connection while each batch is tokenized and indexed on the common fork-join pool,
+ * so reading and indexing overlap.
+ */
+@Slf4j
+@Component
+public class EventTextIndexLoader {
+
+    private final EventRepository eventRepository;
+
+    private final EventTextIndex eventTextIndex;
+
+    private final int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public EventTextIndexLoader(EventRepository eventRepository, EventTextIndex eventTextIndex,
+                                AppProperties appProperties) {
+        this.eventRepository = eventRepository;
+        this.eventTextIndex = eventTextIndex;
+        this.batchSize = appProperties.getTextIndexBatchSize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        try (Stream<Event> events = this.eventRepository.streamAll()) {
+            Iterator<Event> iterator = events.iterator();
+            List<Event> batch = new ArrayList<>(this.batchSize);
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == this.batchSize) {
+                    batches.add(submit(batch));
+                    batch = new ArrayList<>(this.batchSize);
+                    this.entityManager.clear();
+                }
+            }
+            batches.add(submit(batch));
+        }
+        CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])).join();
+        log.info("Indexed {} events for search in {} ms", this.eventTextIndex.size(),
+            System.currentTimeMillis() - startedAt);
+    }
+
+    private CompletableFuture<Void> submit(List<Event> batch) {
+        return CompletableFuture.runAsync(() -> batch.forEach(this.eventTextIndex::index));
+    }
+}
@@ -23,4 +23,18 @@ public class EventValidator {
             errors.rejectValue("endEventDateTime", "wrongValue", "EndEventDateTime is wrong");
         }
     }
+
+    /**
+     * The rules above, and that an update leaves a seat for every enrollment already taken.
+     */
+    public void validate(EventDto eventDto, Event current, Errors errors) {
+        validate(eventDto, errors);
+        validateLimit(eventDto.getLimitOfEnrollment(), current, errors);
+    }
+
+    static void validateLimit(int limitOfEnrollment, Event current, Errors errors) {
+        if (limitOfEnrollment < current.getNumberOfEnrollments()) {
+            errors.rejectValue("limitOfEnrollment", "wrongValue", "LimitOfEnrollment is below the number of enrollments");
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.jayden.tutorial.springrestapi.domain.account.Account;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Version and modification time of an event, enough to validate a conditional request.
+ */
+@Getter
+@AllArgsConstructor
+public class EventVersion {
+
+    private final Long id;
+
+    private final Long version;
+
+    private final Instant modifiedAt;
+
+    private final Long managerId;
+
+    public boolean isManagedBy(Account account) {
+        return account != null && managerId != null && managerId.equals(account.getId());
+    }
+}
@@ -0,0 +1,213 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded in-process queue behind the write-behind mode of {@code POST /api/events}. A single writer thread
+ * drains it into {@link EventBulkWriter} batches of up to {@code my-app.event-batch-size} events.
+ *
+ * Accepted events live only in memory until their batch commits: a crash or kill loses them, a graceful shutdown
+ * writes what is queued before the context closes. A batch that fails is retried one event at a time so only the
+ * offending events fail. Tickets are kept for {@code my-app.event-write-ticket-seconds}.
+ */
+@Slf4j
+@Component
+public class EventWriteQueue implements InitializingBean, DisposableBean {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 30_000;
+
+    private final boolean enabled;
+
+    private final BlockingQueue<Pending> queue;
+
+    private final Cache<String, EventWriteTicket> tickets;
+
+    private final EventBulkWriter eventBulkWriter;
+
+    private final EventCountCache eventCountCache;
+
+    private final EventTextIndex eventTextIndex;
+
+    private final int batchSize;
+
+    private final Counter rejectedCounter;
+
+    private final Timer batchTimer;
+
+    private final Timer lagTimer;
+
+    private Thread writer;
+
+    private volatile boolean running = true;
+
+    public EventWriteQueue(AppProperties appProperties, EventBulkWriter eventBulkWriter,
+                           EventCountCache eventCountCache, EventTextIndex eventTextIndex,
+                           MeterRegistry meterRegistry) {
+        this.enabled = appProperties.isEventWriteBehind();
+        this.queue = new ArrayBlockingQueue<>(appProperties.getEventWriteQueueCapacity());
+        this.tickets = Caffeine.newBuilder()
+            .expireAfterWrite(appProperties.getEventWriteTicketSeconds(), TimeUnit.SECONDS)
+            .build();
+        this.eventBulkWriter = eventBulkWriter;
+        this.eventCountCache = eventCountCache;
+        this.eventTextIndex = eventTextIndex;
+        this.batchSize = appProperties.getEventBatchSize();
+        this.rejectedCounter = Counter.builder("events.write.behind.rejected")
+            .description("events rejected with 429 because the write-behind queue was full")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("events.write.behind.batch")
+            .description("time spent writing one write-behind batch")
+            .register(meterRegistry);
+        this.lagTimer = Timer.builder("events.write.behind.lag")
+            .description("time from accepting an event to its batch being committed")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        meterRegistry.gauge("events.write.behind.queue.size", this.queue, queue -> queue.size());
+    }
+
+    /**
+     * Starts the writer thread once the bean is fully constructed, so it never sees a half-initialized queue.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        if (!this.enabled || this.writer != null) {
+            return;
+        }
+        this.writer = new Thread(this::drain, "event-write-behind");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * @return the ticket of the queued event, empty when the queue is full or shutting down
+     */
+    public Optional<EventWriteTicket> offer(Event event) {
+        EventWriteTicket ticket = new EventWriteTicket();
+        this.tickets.put(ticket.getId(), ticket);
+        if (!this.running || !this.queue.offer(new Pending(event, ticket, System.nanoTime()))) {
+            this.tickets.invalidate(ticket.getId());
+            this.rejectedCounter.increment();
+            return Optional.empty();
+        }
+        return Optional.of(ticket);
+    }
+
+    public Optional<EventWriteTicket> ticket(String id) {
+        return Optional.ofNullable(this.tickets.getIfPresent(id));
+    }
+
+    public int size() {
+        return this.queue.size();
+    }
+
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(this.batchSize);
+        while (this.running || !this.queue.isEmpty()) {
+            try {
+                Pending first = this.queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                this.queue.drainTo(batch, this.batchSize - 1);
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Write-behind writer failed on a batch of {} events", batch.size(), ex);
+                batch.forEach(pending -> pending.ticket.failed());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        List<Event> events = batch.stream().map(pending -> pending.event).collect(Collectors.toList());
+        try {
+            List<Event> savedEvents = this.batchTimer.record(() -> this.eventBulkWriter.write(events));
+            for (int i = 0; i < batch.size(); i++) {
+                created(batch.get(i), savedEvents.get(i));
+            }
+            this.eventTextIndex.indexAll(savedEvents);
+        } catch (RuntimeException ex) {
+            log.warn("Write-behind batch of {} events failed, writing them one at a time", batch.size(), ex);
+            for (Pending pending : batch) {
+                writeOne(pending);
+            }
+        }
+        this.eventCountCache.invalidate();
+    }
+
+    private void writeOne(Pending pending) {
+        // the rolled back batch may have assigned an id and version already
+        pending.event.setId(null);
+        pending.event.setVersion(null);
+        try {
+            Event savedEvent = this.eventBulkWriter.write(List.of(pending.event)).get(0);
+            created(pending, savedEvent);
+            this.eventTextIndex.index(savedEvent);
+        } catch (RuntimeException ex) {
+            log.warn("Write-behind event {} failed", pending.ticket.getId(), ex);
+            pending.ticket.failed();
+        }
+    }
+
+    private void created(Pending pending, Event savedEvent) {
+        pending.ticket.created(savedEvent.getId());
+        this.lagTimer.record(System.nanoTime() - pending.acceptedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops accepting events and writes what is still queued.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        this.running = false;
+        if (this.writer == null) {
+            return;
+        }
+        this.writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        if (this.writer.isAlive()) {
+            log.warn("Write-behind writer did not finish in time, {} queued events are lost", this.queue.size());
+            this.writer.interrupt();
+        }
+    }
+
+    private static final class Pending {
+
+        private final Event event;
+
+        private final EventWriteTicket ticket;
+
+        private final long acceptedAt;
+
+        private Pending(Event event, EventWriteTicket ticket, long acceptedAt) {
+            this.event = event;
+            this.ticket = ticket;
+            this.acceptedAt = acceptedAt;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Status of an event accepted by {@link EventWriteQueue}, updated by the writer thread.
+ */
+@Getter
+public class EventWriteTicket {
+
+    public enum Status {
+        PENDING, CREATED, FAILED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+
+    private final LocalDateTime acceptedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.PENDING;
+
+    /**
+     * id of the created event, null until the event is written
+     */
+    private volatile Long eventId;
+
+    void created(Long eventId) {
+        this.eventId = eventId;
+        this.status = Status.CREATED;
+    }
+
+    void failed() {
+        this.status = Status.FAILED;
+    }
+}
@@ -1,9 +1,93 @@
 package com.jayden.tutorial.springrestapi.domain.event.infra;
 
 import com.jayden.tutorial.springrestapi.domain.event.Event;
+import com.jayden.tutorial.springrestapi.domain.event.EventDeadline;
+import com.jayden.tutorial.springrestapi.domain.event.EventStatus;
+import com.jayden.tutorial.springrestapi.domain.event.EventVersion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event>, EventRepositoryCustom {
+
+    /**
+     * List pages go through the query cache, which Hibernate invalidates on any write to the event table
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    Page<Event> findAll(Pageable pageable);
+
+    /**
+     * Reads one extra row to answer hasNext instead of running a count query
+     */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    Slice<Event> findAllBy(Pageable pageable);
+
+    /**
+     * Streams every event with a JDBC fetch size; must be consumed inside a transaction and closed.
+     * MySQL only honours the fetch size with {@code useCursorFetch=true} on the connection URL.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HINT_READONLY, value = "true"),
+        @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("select e from Event e order by e.id")
+    Stream<Event> streamAll();
+
+    /**
+     * Streams the enrollment openings after {@code now} of events in the given statuses, on the
+     * (event_status, begin_enrollment_date_time) index.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("select new com.jayden.tutorial.springrestapi.domain.event.EventDeadline(e.id, e.beginEnrollmentDateTime) "
+        + "from Event e where e.eventStatus in :statuses and e.beginEnrollmentDateTime > :now")
+    Stream<EventDeadline> streamEnrollmentOpenings(@Param("statuses") Collection<EventStatus> statuses,
+                                                   @Param("now") LocalDateTime now);
+
+    /**
+     * Streams the enrollment closings after {@code now} of events in the given statuses, on the
+     * (event_status, close_enrollment_date_time) index.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("select new com.jayden.tutorial.springrestapi.domain.event.EventDeadline(e.id, e.closeEnrollmentDateTime) "
+        + "from Event e where e.eventStatus in :statuses and e.closeEnrollmentDateTime > :now")
+    Stream<EventDeadline> streamEnrollmentClosings(@Param("statuses") Collection<EventStatus> statuses,
+                                                   @Param("now") LocalDateTime now);
+
+    /**
+     * Reads only what a conditional request needs, without the row body or the manager
+     */
+    @Query("select new com.jayden.tutorial.springrestapi.domain.event.EventVersion(e.id, e.version, e.modifiedAt, e.manager.id) "
+        + "from Event e where e.id = :id")
+    Optional<EventVersion> findVersionById(@Param("id") Long id);
+
+    @Query("select e.eventStatus from Event e where e.id = :id")
+    Optional<EventStatus> findStatusById(@Param("id") Long id);
+
+    @Query("select e.limitOfEnrollment - e.numberOfEnrollments from Event e where e.id = :id")
+    Optional<Integer> findRemainingSeatsById(@Param("id") Long id);
 }
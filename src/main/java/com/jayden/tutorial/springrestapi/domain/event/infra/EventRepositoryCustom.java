@@ -0,0 +1,70 @@
+package com.jayden.tutorial.springrestapi.domain.event.infra;
+
+import com.jayden.tutorial.springrestapi.domain.event.Event;
+import com.jayden.tutorial.springrestapi.domain.event.EventCursor;
+import com.jayden.tutorial.springrestapi.domain.event.EventPatch;
+import com.jayden.tutorial.springrestapi.domain.event.EventStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EventRepositoryCustom {
+
+    /**
+     * Seeks past the cursor position on the (sort key, id) index without OFFSET and without a count query.
+     * Rows come back in scan order, so a backward cursor returns them reversed.
+     *
+     * @param specification filters of the list, null for every event
+     */
+    List<Event> findAllByCursor(EventCursor cursor, Specification<Event> specification, int limit);
+
+    /**
+     * The filtered counterpart of {@code findAllBy(Pageable)}: reads one extra row to answer hasNext instead of
+     * running a count query.
+     */
+    Slice<Event> findSlice(Specification<Event> specification, Pageable pageable);
+
+    /**
+     * Moves published events whose enrollment period contains {@code now} to {@code BEGAN_ENROLLMENT} in one
+     * UPDATE, bumping their version. The conditions are checked in the statement, so stale or repeated calls
+     * change nothing.
+     *
+     * @param ids events to consider, null for every event
+     * @return the number of events changed
+     */
+    int openEnrollments(Collection<Long> ids, LocalDateTime now, Instant modifiedAt);
+
+    /**
+     * Moves published or enrolling events whose enrollment closed at or before {@code now} to
+     * {@code CLOSED_ENROLLMENT} in one UPDATE, bumping their version.
+     *
+     * @param ids events to consider, null for every event
+     * @return the number of events changed
+     */
+    int closeEnrollments(Collection<Long> ids, LocalDateTime now, Instant modifiedAt);
+
+    /**
+     * Writes the patched columns, and the flags derived from them, in one UPDATE that only matches the given
+     * version of an event managed by {@code managerId}. Rules between a patched field and a stored one are part
+     * of the WHERE clause as well.
+     *
+     * @return 1 when the event was updated, 0 when it is missing, managed by someone else, of another version or
+     * would break a rule
+     */
+    int patch(Long id, Long version, Long managerId, EventPatch patch, Instant modifiedAt);
+
+    /**
+     * Takes a seat only while enrollment is open and the event is not full, in one statement, so concurrent
+     * enrollments can never oversell. Only this event leaves the second-level cache.
+     *
+     * @return 1 when a seat was taken, 0 otherwise
+     */
+    int takeSeat(Long id, EventStatus status);
+
+    int releaseSeat(Long id);
+}
@@ -0,0 +1,271 @@
+package com.jayden.tutorial.springrestapi.domain.event.infra;
+
+import com.jayden.tutorial.springrestapi.domain.event.Event;
+import com.jayden.tutorial.springrestapi.domain.event.EventCursor;
+import com.jayden.tutorial.springrestapi.domain.event.EventPatch;
+import com.jayden.tutorial.springrestapi.domain.event.EventStatus;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class EventRepositoryImpl implements EventRepositoryCustom {
+
+    private static final String TRANSITION = "update Event e set e.eventStatus = :to, e.version = e.version + 1, "
+        + "e.modifiedAt = :modifiedAt where e.eventStatus in :from ";
+
+    private static final String TAKE_SEAT = "update event set number_of_enrollments = number_of_enrollments + 1 "
+        + "where id = :id and event_status = :status and number_of_enrollments < limit_of_enrollment";
+
+    private static final String RELEASE_SEAT = "update event set number_of_enrollments = number_of_enrollments - 1 "
+        + "where id = :id and number_of_enrollments > 0";
+
+    /**
+     * A bulk update evicts every cached entity of the tables it synchronizes with; seat updates name a space no
+     * entity is mapped to and evict their event by id instead. Cached list queries only hold ids, which a seat
+     * update never changes.
+     */
+    private static final String SEATS_QUERY_SPACE = "event_seats";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public List<Event> findAllByCursor(EventCursor cursor, Specification<Event> specification, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = builder.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+
+        Path<Comparable> key = root.get(cursor.getProperty());
+        Path<Long> id = root.get("id");
+        boolean ascending = cursor.isAscending() != cursor.isBackward();
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (specification != null) {
+            predicates.add(specification.toPredicate(root, query, builder));
+        }
+        if (cursor.hasPosition()) {
+            predicates.add(seek(builder, key, id, cursor, ascending));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(
+            ascending ? builder.asc(key) : builder.desc(key),
+            ascending ? builder.asc(id) : builder.desc(id));
+
+        return entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Event> findSlice(Specification<Event> specification, Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = builder.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+        query.where(specification.toPredicate(root, query, builder));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        List<Event> events = new ArrayList<>(entityManager.createQuery(query)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize() + 1)
+            .getResultList());
+        boolean hasNext = events.size() > pageable.getPageSize();
+        if (hasNext) {
+            events.remove(pageable.getPageSize());
+        }
+        return new SliceImpl<>(events, pageable, hasNext);
+    }
+
+    /**
+     * NULL sort keys come first in ascending order on both MySQL and H2, so they are handled explicitly.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Predicate seek(CriteriaBuilder builder, Path<Comparable> key, Path<Long> id,
+                           EventCursor cursor, boolean ascending) {
+        Comparable value = cursor.getValue();
+        Long lastId = cursor.getId();
+
+        if (value == null) {
+            Predicate sameKey = builder.and(builder.isNull(key),
+                ascending ? builder.greaterThan(id, lastId) : builder.lessThan(id, lastId));
+            return ascending ? builder.or(sameKey, builder.isNotNull(key)) : sameKey;
+        }
+
+        Predicate sameKey = builder.and(builder.equal(key, value),
+            ascending ? builder.greaterThan(id, lastId) : builder.lessThan(id, lastId));
+        if (ascending) {
+            return builder.or(builder.greaterThan(key, value), sameKey);
+        }
+        return builder.or(builder.lessThan(key, value), sameKey, builder.isNull(key));
+    }
+
+    @Override
+    @Transactional
+    public int openEnrollments(Collection<Long> ids, LocalDateTime now, Instant modifiedAt) {
+        return transition(TRANSITION + "and e.beginEnrollmentDateTime <= :now "
+                + "and (e.closeEnrollmentDateTime is null or e.closeEnrollmentDateTime > :now)",
+            ids, List.of(EventStatus.PUBLISHED), EventStatus.BEGAN_ENROLLMENT, now, modifiedAt);
+    }
+
+    @Override
+    @Transactional
+    public int closeEnrollments(Collection<Long> ids, LocalDateTime now, Instant modifiedAt) {
+        return transition(TRANSITION + "and e.closeEnrollmentDateTime <= :now",
+            ids, List.of(EventStatus.PUBLISHED, EventStatus.BEGAN_ENROLLMENT), EventStatus.CLOSED_ENROLLMENT,
+            now, modifiedAt);
+    }
+
+    private int transition(String jpql, Collection<Long> ids, List<EventStatus> from, EventStatus to,
+                           LocalDateTime now, Instant modifiedAt) {
+        if (ids != null && ids.isEmpty()) {
+            return 0;
+        }
+        Query query = entityManager.createQuery(ids == null ? jpql : jpql + " and e.id in :ids")
+            .setParameter("from", from)
+            .setParameter("to", to)
+            .setParameter("now", now)
+            .setParameter("modifiedAt", modifiedAt);
+        if (ids != null) {
+            query.setParameter("ids", ids);
+        }
+        return query.executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int patch(Long id, Long version, Long managerId, EventPatch patch, Instant modifiedAt) {
+        Map<String, Object> parameters = new HashMap<>(patch.getValues());
+        StringBuilder jpql = new StringBuilder("update Event e set e.version = e.version + 1, e.modifiedAt = :modifiedAt");
+        parameters.put("modifiedAt", modifiedAt);
+        for (String field : patch.getValues().keySet()) {
+            jpql.append(", e.").append(field).append(" = :").append(field);
+        }
+        if (patch.has("location")) {
+            jpql.append(", e.offline = :offline");
+            parameters.put("offline", patch.isOffline());
+        }
+        appendFree(jpql, parameters, patch);
+
+        jpql.append(" where e.id = :id and e.version = :version and e.manager.id = :managerId");
+        parameters.put("id", id);
+        parameters.put("version", version);
+        parameters.put("managerId", managerId);
+        appendRules(jpql, patch);
+
+        Query query = entityManager.createQuery(jpql.toString());
+        parameters.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+
+    /**
+     * {@code free} when both prices are zero; a price the patch leaves alone is read from its column.
+     */
+    private static void appendFree(StringBuilder jpql, Map<String, Object> parameters, EventPatch patch) {
+        boolean basePrice = patch.has("basePrice");
+        boolean maxPrice = patch.has("maxPrice");
+        if (!basePrice && !maxPrice) {
+            return;
+        }
+        if (basePrice && maxPrice) {
+            jpql.append(", e.free = :free");
+            parameters.put("free", (int) patch.get("basePrice") == 0 && (int) patch.get("maxPrice") == 0);
+        } else if ((int) patch.get(basePrice ? "basePrice" : "maxPrice") != 0) {
+            jpql.append(", e.free = :free");
+            parameters.put("free", false);
+        } else {
+            jpql.append(", e.free = case when e.").append(basePrice ? "maxPrice" : "basePrice")
+                .append(" = 0 then true else false end");
+        }
+    }
+
+    /**
+     * The rules of {@code EventValidator} that pair a patched field with a stored one, and a limit that still
+     * holds every taken seat; rules among patched fields were checked when the patch was read. A stored date time that is null passes, as it cannot be compared.
+     */
+    private static void appendRules(StringBuilder jpql, EventPatch patch) {
+        if (patch.has("limitOfEnrollment")) {
+            jpql.append(" and e.numberOfEnrollments <= :limitOfEnrollment");
+        }
+        if (patch.has("basePrice") && !patch.has("maxPrice")) {
+            jpql.append(" and (e.maxPrice = 0 or e.maxPrice >= :basePrice)");
+        } else if (patch.has("maxPrice") && !patch.has("basePrice") && (int) patch.get("maxPrice") != 0) {
+            jpql.append(" and e.basePrice <= :maxPrice");
+        }
+
+        String end = EventPatch.END_EVENT_DATE_TIME;
+        for (String field : EventPatch.BEFORE_END_EVENT) {
+            if (patch.has(end) && !patch.has(field)) {
+                jpql.append(" and (e.").append(field).append(" is null or e.").append(field)
+                    .append(" <= :").append(end).append(")");
+            } else if (patch.has(field) && !patch.has(end)) {
+                jpql.append(" and (e.").append(end).append(" is null or e.").append(end)
+                    .append(" >= :").append(field).append(")");
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public int takeSeat(Long id, EventStatus status) {
+        return updateSeats(entityManager.createNativeQuery(TAKE_SEAT).setParameter("status", status.name()), id);
+    }
+
+    @Override
+    @Transactional
+    public int releaseSeat(Long id) {
+        return updateSeats(entityManager.createNativeQuery(RELEASE_SEAT), id);
+    }
+
+    private int updateSeats(Query query, Long id) {
+        int updated = query.setParameter("id", id)
+            .unwrap(NativeQuery.class)
+            .addSynchronizedQuerySpace(SEATS_QUERY_SPACE)
+            .executeUpdate();
+        if (updated > 0) {
+            evictAfterCompletion(id);
+        }
+        return updated;
+    }
+
+    /**
+     * Evicts now and once more after the transaction, so a read that cached the old row meanwhile is dropped too.
+     */
+    private void evictAfterCompletion(Long id) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        cache.evict(Event.class, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evict(Event.class, id);
+                }
+            });
+        }
+    }
+}
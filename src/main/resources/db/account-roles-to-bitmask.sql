@@ -0,0 +1,13 @@
+-- Moves roles from the account_roles element collection table into the account.roles bitmask column.
+-- Bits follow AccountRole: ADMIN = 1, USER = 2. Run once, before starting the new version, on MySQL.
+
+ALTER TABLE account ADD COLUMN roles INT NOT NULL DEFAULT 0;
+
+UPDATE account a
+SET a.roles = (
+    SELECT COALESCE(BIT_OR(CASE ar.roles WHEN 'ADMIN' THEN 1 WHEN 'USER' THEN 2 ELSE 0 END), 0)
+    FROM account_roles ar
+    WHERE ar.account_id = a.id
+);
+
+DROP TABLE account_roles;
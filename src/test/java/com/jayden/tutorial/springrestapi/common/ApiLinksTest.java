@@ -0,0 +1,119 @@
+package com.jayden.tutorial.springrestapi.common;
+
+import com.jayden.tutorial.springrestapi.controller.EventController;
+import com.jayden.tutorial.springrestapi.index.IndexController;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.methodOn;
+
+public class ApiLinksTest {
+
+    @After
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @TestDescription("캐시된 링크가 linkTo로 만든 링크와 같은지 확인하는 테스트")
+    public void sameAsLinkTo() {
+        assertSameAsLinkTo(request("http", "localhost", 80, ""));
+        assertSameAsLinkTo(request("https", "api.example.com", 8443, "/app"));
+
+        MockHttpServletRequest forwarded = request("http", "localhost", 8080, "");
+        forwarded.addHeader("X-Forwarded-Proto", "https");
+        forwarded.addHeader("X-Forwarded-Host", "public.example.com");
+        forwarded.addHeader("X-Forwarded-Port", "443");
+        assertSameAsLinkTo(forwarded);
+
+        // served from the cache the second time around
+        assertSameAsLinkTo(request("http", "localhost", 80, ""));
+    }
+
+    @Test
+    @TestDescription("요청의 호스트가 다르면 다른 링크를 만드는지 확인하는 테스트")
+    public void separateOriginsAreNotMixed() {
+        bind(request("http", "first.example.com", 80, ""));
+        String first = ApiLinks.eventsHref();
+        bind(request("http", "second.example.com", 80, ""));
+        String second = ApiLinks.eventsHref();
+
+        assertThat(first).isEqualTo("http://first.example.com/api/events");
+        assertThat(second).isEqualTo("http://second.example.com/api/events");
+    }
+
+    @Test
+    @TestDescription("요청마다 서블릿 경로가 달라도 같은 출처는 캐시 항목 하나를 쓰는지 확인하는 테스트")
+    public void servletPathIsNotPartOfTheOrigin() {
+        long cachedOrigins = ApiLinks.cachedOrigins();
+        for (long id = 1; id <= 3; id++) {
+            MockHttpServletRequest request = request("http", "servlet-path.example.com", 80, "");
+            request.setRequestURI("/api/events/" + id);
+            request.setServletPath("/api/events/" + id);
+            assertSameAsLinkTo(request);
+        }
+
+        assertThat(ApiLinks.cachedOrigins()).isEqualTo(cachedOrigins + 1);
+    }
+
+    @Test
+    @TestDescription("서블릿이 접두사로 매핑되면 링크에 서블릿 경로가 들어가는지 확인하는 테스트")
+    public void servletMappingPrefix() {
+        MockHttpServletRequest request = request("http", "localhost", 80, "");
+        request.setRequestURI("/v1/api/events");
+        request.setServletPath("/v1");
+        request.setPathInfo("/api/events");
+        assertSameAsLinkTo(request);
+
+        assertThat(ApiLinks.eventsHref()).isEqualTo("http://localhost/v1/api/events");
+    }
+
+    private void assertSameAsLinkTo(MockHttpServletRequest request) {
+        bind(request);
+        Link expectedEvent = linkTo(EventController.class).slash(42L).withSelfRel();
+        Link expectedEvents = linkTo(EventController.class).withRel("query-events");
+        Link expectedIndex = linkTo(methodOn(IndexController.class).index()).withRel("index");
+
+        bind(copyOf(request));
+        assertThat(ApiLinks.event(42L, Link.REL_SELF)).isEqualTo(expectedEvent);
+        assertThat(ApiLinks.events("query-events")).isEqualTo(expectedEvents);
+        assertThat(ApiLinks.index("index")).isEqualTo(expectedIndex);
+        assertThat(ApiLinks.eventsHref()).isEqualTo(expectedEvents.getHref());
+    }
+
+    private MockHttpServletRequest request(String scheme, String host, int port, String contextPath) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", contextPath + "/api/events");
+        request.setScheme(scheme);
+        request.setServerName(host);
+        request.setServerPort(port);
+        request.setContextPath(contextPath);
+        return request;
+    }
+
+    /**
+     * linkTo caches the base URI in request attributes, a fresh request keeps it from leaking into ApiLinks
+     */
+    private MockHttpServletRequest copyOf(MockHttpServletRequest source) {
+        MockHttpServletRequest request = request(source.getScheme(), source.getServerName(), source.getServerPort(),
+            source.getContextPath());
+        request.setRequestURI(source.getRequestURI());
+        request.setServletPath(source.getServletPath());
+        request.setPathInfo(source.getPathInfo());
+        for (String name : Collections.list(source.getHeaderNames())) {
+            request.addHeader(name, source.getHeader(name));
+        }
+        return request;
+    }
+
+    private void bind(MockHttpServletRequest request) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
@@ -0,0 +1,55 @@
+package com.jayden.tutorial.springrestapi.common.logging;
+
+import com.jayden.tutorial.springrestapi.common.TestDescription;
+import com.jayden.tutorial.springrestapi.common.metrics.SqlStatementCounter;
+import org.junit.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestLogFilterTest {
+
+    private final SqlStatementCounter sqlStatementCounter = new SqlStatementCounter();
+
+    @Test
+    @TestDescription("요청 처리 중에 MDC에 엔드포인트와 SQL 실행 횟수가 기록되고 요청이 끝나면 지워지는 테스트")
+    public void putRequestContextIntoMdc() throws Exception {
+        Map<String, String> seen = new HashMap<>();
+        HttpServlet servlet = new HttpServlet() {
+
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) {
+                sqlStatementCounter.inspect("select 1");
+                sqlStatementCounter.inspect("select 2");
+                seen.put(RequestLogFilter.ENDPOINT_MDC_KEY, MDC.get(RequestLogFilter.ENDPOINT_MDC_KEY));
+                seen.put(SqlStatementCounter.MDC_KEY, MDC.get(SqlStatementCounter.MDC_KEY));
+            }
+        };
+
+        new RequestLogFilter(0).doFilter(new MockHttpServletRequest("GET", "/api/events"),
+            new MockHttpServletResponse(), new MockFilterChain(servlet));
+
+        assertThat(seen.get(RequestLogFilter.ENDPOINT_MDC_KEY)).isEqualTo("GET /api/events");
+        assertThat(seen.get(SqlStatementCounter.MDC_KEY)).isEqualTo("2");
+        assertThat(SqlStatementCounter.get()).isEqualTo(2);
+        assertThat(MDC.get(RequestLogFilter.ENDPOINT_MDC_KEY)).isNull();
+        assertThat(MDC.get(SqlStatementCounter.MDC_KEY)).isNull();
+    }
+
+    @Test
+    @TestDescription("요청 밖에서 실행된 SQL은 MDC에 기록되지 않는 테스트")
+    public void ignoreStatementsOutsideRequest() {
+        sqlStatementCounter.inspect("select 1");
+
+        assertThat(MDC.get(SqlStatementCounter.MDC_KEY)).isNull();
+    }
+}
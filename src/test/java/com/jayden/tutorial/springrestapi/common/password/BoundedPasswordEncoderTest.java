@@ -0,0 +1,112 @@
+package com.jayden.tutorial.springrestapi.common.password;
+
+import com.jayden.tutorial.springrestapi.common.TestDescription;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+public class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        if (passwordEncoder != null) {
+            passwordEncoder.destroy();
+        }
+    }
+
+    @Test
+    @TestDescription("해싱 큐가 가득 차면 503 예외로 바로 거절하는 테스트")
+    public void rejectWhenQueueIsFull() throws Exception {
+        this.passwordEncoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, 5_000, meterRegistry);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("a", "a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("b", "b"));
+        waitForQueueSize(1);
+
+        PasswordHashingUnavailableException exception = catchThrowableOfType(
+            () -> passwordEncoder.matches("c", "c"), PasswordHashingUnavailableException.class);
+        assertThat(exception.getHttpErrorCode()).isEqualTo(503);
+        assertThat(exception.getOAuth2ErrorCode()).isEqualTo("temporarily_unavailable");
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("password.hash").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("password.queue.wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @TestDescription("해싱이 제한 시간 안에 끝나지 않으면 503 예외가 발생하는 테스트")
+    public void rejectWhenHashingTimesOut() {
+        this.passwordEncoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, 50, meterRegistry);
+
+        assertThatThrownBy(() -> passwordEncoder.encode("1234"))
+            .isInstanceOf(PasswordHashingUnavailableException.class);
+    }
+
+    @Test
+    @TestDescription("설정된 bcrypt cost와 다른 해시는 재해싱 대상인지 확인하는 테스트")
+    public void upgradeEncoding() {
+        UpgradingPasswordEncoder upgradingPasswordEncoder = new UpgradingPasswordEncoder(5);
+        this.passwordEncoder = new BoundedPasswordEncoder(upgradingPasswordEncoder, 1, 1, 5_000, meterRegistry);
+
+        String current = passwordEncoder.encode("1234");
+        String weaker = new UpgradingPasswordEncoder(4).encode("1234");
+
+        assertThat(passwordEncoder.matches("1234", current)).isTrue();
+        assertThat(passwordEncoder.matches("1234", weaker)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(current)).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(weaker)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding("{noop}1234")).isTrue();
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                await();
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                await();
+                return rawPassword.toString().equals(encodedPassword);
+            }
+
+            private void await() {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+
+    private void waitForQueueSize(int size) throws InterruptedException {
+        for (int i = 0; i < 500 && meterRegistry.get("password.queue.size").gauge().value() < size; i++) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.jayden.tutorial.springrestapi.common.token;
+
+import com.jayden.tutorial.springrestapi.common.TestDescription;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.common.DefaultExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExpiringTokenStoreTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    private ExpiringTokenStore tokenStore;
+
+    @Before
+    public void setUp() {
+        this.tokenStore = new ExpiringTokenStore(3, now::get, false);
+    }
+
+    @Test
+    @TestDescription("저장한 토큰으로 인증 정보를 다시 읽는 테스트")
+    public void storeAndReadAuthentication() {
+        DefaultOAuth2AccessToken accessToken = accessToken("access", 60);
+        OAuth2Authentication authentication = authentication("user@email.com");
+
+        tokenStore.storeAccessToken(accessToken, authentication);
+
+        OAuth2Authentication stored = tokenStore.readAuthentication("access");
+        assertThat(stored.getName()).isEqualTo("user@email.com");
+        assertThat(stored.isAuthenticated()).isTrue();
+        assertThat(stored.getOAuth2Request().getClientId()).isEqualTo("myApp");
+        assertThat(stored.getOAuth2Request().getScope()).containsExactlyInAnyOrder("read", "write");
+        assertThat(stored.getOAuth2Request().getGrantType()).isEqualTo("password");
+        assertThat(stored.getOAuth2Request().getRequestParameters()).doesNotContainKey("username");
+        assertThat(stored.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(tokenStore.getAccessToken(authentication)).isSameAs(accessToken);
+        assertThat(tokenStore.findTokensByClientId("myApp")).containsExactly(accessToken);
+        assertThat(tokenStore.findTokensByClientIdAndUserName("myApp", "user@email.com")).containsExactly(accessToken);
+    }
+
+    @Test
+    @TestDescription("만료된 토큰이 타이밍 휠에 의해 제거되는 테스트")
+    public void purgeExpired() {
+        tokenStore.storeAccessToken(accessToken("short", 10), authentication("short@email.com"));
+        tokenStore.storeAccessToken(accessToken("long", 120), authentication("long@email.com"));
+
+        now.addAndGet(TimeUnit.SECONDS.toMillis(30));
+        tokenStore.purgeExpired();
+
+        assertThat(tokenStore.readAccessToken("short")).isNull();
+        assertThat(tokenStore.readAccessToken("long")).isNotNull();
+        assertThat(tokenStore.findTokensByClientIdAndUserName("myApp", "short@email.com")).isEmpty();
+        assertThat(tokenStore.getAccessTokenCount()).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("용량을 넘으면 가장 먼저 만료될 토큰을 제거하는 테스트")
+    public void evictSoonestExpiringBeyondCapacity() {
+        tokenStore.storeAccessToken(accessToken("first", 300), authentication("first@email.com"));
+        tokenStore.storeAccessToken(accessToken("soonest", 30), authentication("soonest@email.com"));
+        tokenStore.storeAccessToken(accessToken("third", 600), authentication("third@email.com"));
+        tokenStore.storeAccessToken(accessToken("fourth", 900), authentication("fourth@email.com"));
+
+        assertThat(tokenStore.getAccessTokenCount()).isEqualTo(3);
+        assertThat(tokenStore.readAccessToken("soonest")).isNull();
+        assertThat(tokenStore.readAccessToken("first")).isNotNull();
+    }
+
+    @Test
+    @TestDescription("만료 시간이 없는 토큰도 용량을 넘으면 가장 오래된 토큰부터 제거하는 테스트")
+    public void evictOldestUnexpiringBeyondCapacity() {
+        for (int i = 0; i <= 3; i++) {
+            tokenStore.storeAccessToken(new DefaultOAuth2AccessToken("access" + i), authentication(i + "@email.com"));
+            tokenStore.storeRefreshToken(new DefaultOAuth2RefreshToken("refresh" + i), authentication(i + "@email.com"));
+        }
+
+        assertThat(tokenStore.getAccessTokenCount()).isEqualTo(3);
+        assertThat(tokenStore.getRefreshTokenCount()).isEqualTo(3);
+        assertThat(tokenStore.readAccessToken("access0")).isNull();
+        assertThat(tokenStore.readRefreshToken("refresh0")).isNull();
+        assertThat(tokenStore.findTokensByClientIdAndUserName("myApp", "0@email.com")).isEmpty();
+        assertThat(tokenStore.readAccessToken("access3")).isNotNull();
+        assertThat(tokenStore.readRefreshToken("refresh3")).isNotNull();
+    }
+
+    @Test
+    @TestDescription("Refresh 토큰으로 Access 토큰을 제거하는 테스트")
+    public void removeAccessTokenUsingRefreshToken() {
+        OAuth2RefreshToken refreshToken =
+            new DefaultExpiringOAuth2RefreshToken("refresh", new Date(now.get() + TimeUnit.MINUTES.toMillis(10)));
+        DefaultOAuth2AccessToken accessToken = accessToken("access", 60);
+        accessToken.setRefreshToken(refreshToken);
+        OAuth2Authentication authentication = authentication("user@email.com");
+        tokenStore.storeAccessToken(accessToken, authentication);
+        tokenStore.storeRefreshToken(refreshToken, authentication);
+
+        assertThat(tokenStore.readAuthenticationForRefreshToken(refreshToken).getName()).isEqualTo("user@email.com");
+
+        tokenStore.removeAccessTokenUsingRefreshToken(refreshToken);
+        tokenStore.removeRefreshToken(refreshToken);
+
+        assertThat(tokenStore.readAccessToken("access")).isNull();
+        assertThat(tokenStore.getAccessToken(authentication)).isNull();
+        assertThat(tokenStore.readRefreshToken("refresh")).isNull();
+    }
+
+    private DefaultOAuth2AccessToken accessToken(String value, long validitySeconds) {
+        DefaultOAuth2AccessToken accessToken = new DefaultOAuth2AccessToken(value);
+        accessToken.setExpiration(new Date(now.get() + TimeUnit.SECONDS.toMillis(validitySeconds)));
+        return accessToken;
+    }
+
+    private OAuth2Authentication authentication(String username) {
+        Map<String, String> parameters = Map.of("grant_type", "password", "username", username);
+        OAuth2Request request = new OAuth2Request(parameters, "myApp", AuthorityUtils.NO_AUTHORITIES, true,
+            Set.of("read", "write"), Set.of("event"), null, null, null);
+        UsernamePasswordAuthenticationToken user = new UsernamePasswordAuthenticationToken(username, "1234",
+            AuthorityUtils.createAuthorityList("ROLE_USER"));
+        user.setDetails(parameters);
+        return new OAuth2Authentication(request, user);
+    }
+}
@@ -3,9 +3,18 @@ package com.jayden.tutorial.springrestapi.config;
 import com.jayden.tutorial.springrestapi.common.AppProperties;
 import com.jayden.tutorial.springrestapi.common.TestDescription;
 import com.jayden.tutorial.springrestapi.controller.BaseControllerTest;
+import com.jayden.tutorial.springrestapi.common.password.UpgradingPasswordEncoder;
+import com.jayden.tutorial.springrestapi.domain.account.Account;
+import com.jayden.tutorial.springrestapi.domain.account.AccountRole;
 import com.jayden.tutorial.springrestapi.domain.account.AccountService;
+import com.jayden.tutorial.springrestapi.domain.account.infra.AccountRepository;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -21,6 +30,12 @@ public class AuthServerConfigTest extends BaseControllerTest {
     @Autowired
     AppProperties appProperties;
 
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
     @Test
     @TestDescription("인증 토큰을 발급 받는 테스트")
     public void getAuthToken() throws Exception {
@@ -33,4 +48,28 @@ public class AuthServerConfigTest extends BaseControllerTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("access_token").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    @TestDescription("다른 bcrypt cost로 저장된 비밀번호가 로그인 후 재해싱되는 테스트")
+    public void rehashPasswordOnLogin() throws Exception {
+        String username = "rehash@email.com";
+        String weakHash = new UpgradingPasswordEncoder(4).encode("1234");
+        this.accountRepository.save(Account.builder()
+            .email(username)
+            .password(weakHash)
+            .roles(Set.of(AccountRole.USER))
+            .build());
+
+        this.mockMvc.perform(post("/oauth/token")
+            .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+            .param("username", username)
+            .param("password", "1234")
+            .param("grant_type", "password"))
+            .andExpect(status().isOk());
+
+        String rehashed = this.accountRepository.findByEmail(username).orElseThrow().getPassword();
+        assertThat(rehashed).isNotEqualTo(weakHash);
+        assertThat(passwordEncoder.upgradeEncoding(rehashed)).isFalse();
+        assertThat(passwordEncoder.matches("1234", rehashed)).isTrue();
+    }
+}
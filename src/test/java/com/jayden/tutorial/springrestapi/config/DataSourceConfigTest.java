@@ -0,0 +1,184 @@
+package com.jayden.tutorial.springrestapi.config;
+
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.common.TestDescription;
+import com.jayden.tutorial.springrestapi.controller.BaseControllerTest;
+import com.jayden.tutorial.springrestapi.domain.account.Account;
+import com.jayden.tutorial.springrestapi.domain.account.AccountRole;
+import com.jayden.tutorial.springrestapi.domain.account.AccountService;
+import com.jayden.tutorial.springrestapi.domain.account.infra.AccountRepository;
+import com.jayden.tutorial.springrestapi.domain.event.Event;
+import com.jayden.tutorial.springrestapi.domain.event.EventDto;
+import com.jayden.tutorial.springrestapi.domain.event.EventStatus;
+import com.jayden.tutorial.springrestapi.domain.event.EventTextIndexLoader;
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Two H2 databases stand in for the primary and a replica; replication is a script copy of the primary.
+ */
+@TestPropertySource(properties = {
+    "spring.datasource.url=" + DataSourceConfigTest.PRIMARY_URL,
+    "spring.datasource.hikari.jdbc-url=" + DataSourceConfigTest.PRIMARY_URL,
+    "my-app.replicas.urls=" + DataSourceConfigTest.REPLICA_URL,
+    "my-app.replicas.read-your-writes-seconds=60"
+})
+public class DataSourceConfigTest extends BaseControllerTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1";
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    /**
+     * the replica has no schema at startup, so the index rebuild would fail
+     */
+    @MockBean
+    EventTextIndexLoader eventTextIndexLoader;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Before
+    public void setUp() {
+        this.eventRepository.deleteAll();
+        this.accountRepository.deleteAll();
+        this.accountService.saveAccount(Account.builder()
+            .email(appProperties.getUserUsername())
+            .password(appProperties.getUserPassword())
+            .roles(Set.of(AccountRole.USER))
+            .build());
+        replicate();
+    }
+
+    @Test
+    @TestDescription("GET 요청의 읽기 전용 트랜잭션은 복제본에서 조회되는 테스트")
+    public void readFromReplica() throws Exception {
+        Event event = this.eventRepository.save(event());
+        double replicaRoutes = replicaRoutes();
+
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+            .andExpect(status().isNotFound());
+
+        replicate();
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+            .andExpect(status().isOk());
+        assertThat(replicaRoutes()).isGreaterThan(replicaRoutes);
+    }
+
+    @Test
+    @TestDescription("이벤트를 생성한 사용자는 복제 전에도 자신의 이벤트를 조회할 수 있는 테스트")
+    public void readYourWrites() throws Exception {
+        String bearerToken = "Bearer " + getAccessToken();
+
+        String response = this.mockMvc.perform(post("/api/events")
+            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+            .contentType(MediaType.APPLICATION_JSON_UTF8)
+            .accept(MediaTypes.HAL_JSON)
+            .content(objectMapper.writeValueAsString(eventDto())))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        Integer id = JsonPath.read(response, "id");
+
+        this.mockMvc.perform(get("/api/events/{id}", id)
+            .header(HttpHeaders.AUTHORIZATION, bearerToken))
+            .andExpect(status().isOk());
+        this.mockMvc.perform(get("/api/events/{id}", id))
+            .andExpect(status().isNotFound());
+    }
+
+    private String getAccessToken() throws Exception {
+        String response = this.mockMvc.perform(post("/oauth/token")
+            .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+            .param("username", appProperties.getUserUsername())
+            .param("password", appProperties.getUserPassword())
+            .param("grant_type", "password"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return new Jackson2JsonParser().parseMap(response).get("access_token").toString();
+    }
+
+    private double replicaRoutes() {
+        return this.meterRegistry.get("datasource.routes").tag("route", "replica-0").counter().count();
+    }
+
+    /**
+     * Replaces the replica with a copy of the primary.
+     */
+    private static void replicate() {
+        List<String> script = jdbcTemplate(PRIMARY_URL).queryForList("SCRIPT", String.class);
+        JdbcTemplate replica = jdbcTemplate(REPLICA_URL);
+        replica.execute("DROP ALL OBJECTS");
+        script.forEach(replica::execute);
+    }
+
+    private static JdbcTemplate jdbcTemplate(String url) {
+        return new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+    }
+
+    private static Event event() {
+        Event event = Event.builder()
+            .name("Spring")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2019, 10, 1, 0, 0, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2019, 10, 2, 23, 59, 59))
+            .beginEventDateTime(LocalDateTime.of(2019, 11, 1, 10, 0, 0))
+            .endEventDateTime(LocalDateTime.of(2019, 11, 2, 18, 0, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("D2 Startup Factory")
+            .eventStatus(EventStatus.DRAFT)
+            .build();
+        event.update();
+        return event;
+    }
+
+    private static EventDto eventDto() {
+        return EventDto.builder()
+            .name("Spring")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2019, 10, 1, 0, 0, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2019, 10, 2, 23, 59, 59))
+            .beginEventDateTime(LocalDateTime.of(2019, 11, 1, 10, 0, 0))
+            .endEventDateTime(LocalDateTime.of(2019, 11, 2, 18, 0, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("D2 Startup Factory")
+            .build();
+    }
+}
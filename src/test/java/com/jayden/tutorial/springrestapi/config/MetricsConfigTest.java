@@ -0,0 +1,89 @@
+package com.jayden.tutorial.springrestapi.config;
+
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.common.TestDescription;
+import com.jayden.tutorial.springrestapi.controller.BaseControllerTest;
+import com.jayden.tutorial.springrestapi.domain.account.Account;
+import com.jayden.tutorial.springrestapi.domain.account.AccountRole;
+import com.jayden.tutorial.springrestapi.domain.account.AccountService;
+import com.jayden.tutorial.springrestapi.domain.account.infra.AccountRepository;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+    "my-app.sql-metrics=true",
+    "my-app.hibernate-statistics=true"
+})
+public class MetricsConfigTest extends BaseControllerTest {
+
+    private static final String ADMIN_EMAIL = "metrics-admin@email.com";
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @Test
+    @TestDescription("이벤트 목록 조회 후 프로메테우스 엔드포인트에 요청, 저장소, SQL, 커넥션 풀 지표가 노출되는 테스트")
+    public void prometheusScrape() throws Exception {
+        this.mockMvc.perform(get("/api/events"))
+            .andExpect(status().isOk());
+
+        String scrape = this.mockMvc.perform(get("/actuator/prometheus")
+            .header(HttpHeaders.AUTHORIZATION, getAdminBearerToken()))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+            .contains("http_server_requests_seconds_bucket{")
+            .contains("http_server_requests_statements_bucket{")
+            .contains("uri=\"/api/events\"")
+            .contains("repository_invocations_seconds_bucket{")
+            .contains("repository=\"EventRepository\"")
+            .contains("hikaricp_connections_acquire_seconds_bucket{")
+            .contains("hibernate_statements");
+    }
+
+    @Test
+    @TestDescription("프로메테우스를 포함한 액추에이터 엔드포인트는 인증 없이 접근할 수 없는 테스트")
+    public void actuatorEndpointsNeedAdmin() throws Exception {
+        this.mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isUnauthorized());
+        this.mockMvc.perform(get("/actuator/metrics"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    private String getAdminBearerToken() throws Exception {
+        if (this.accountRepository.findByEmail(ADMIN_EMAIL).isEmpty()) {
+            this.accountService.saveAccount(Account.builder()
+                .email(ADMIN_EMAIL)
+                .password("1234")
+                .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                .build());
+        }
+
+        String response = this.mockMvc.perform(post("/oauth/token")
+            .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+            .param("username", ADMIN_EMAIL)
+            .param("password", "1234")
+            .param("grant_type", "password"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return "Bearer " + new Jackson2JsonParser().parseMap(response).get("access_token");
+    }
+}
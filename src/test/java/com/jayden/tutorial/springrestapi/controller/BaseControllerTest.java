@@ -32,6 +32,5 @@ public class BaseControllerTest {
     @Autowired
     protected ObjectMapper objectMapper;
 
-    @Autowired
-    protected ModelMapper modelMapper;
+    protected final ModelMapper modelMapper = new ModelMapper();
 }
@@ -0,0 +1,171 @@
+package com.jayden.tutorial.springrestapi.controller;
+
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.common.TestDescription;
+import com.jayden.tutorial.springrestapi.domain.account.Account;
+import com.jayden.tutorial.springrestapi.domain.account.AccountRole;
+import com.jayden.tutorial.springrestapi.domain.account.AccountService;
+import com.jayden.tutorial.springrestapi.domain.account.infra.AccountRepository;
+import com.jayden.tutorial.springrestapi.domain.enrollment.EnrollmentPermits;
+import com.jayden.tutorial.springrestapi.domain.enrollment.infra.EnrollmentRepository;
+import com.jayden.tutorial.springrestapi.domain.event.Event;
+import com.jayden.tutorial.springrestapi.domain.event.EventStatus;
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+
+import java.util.Set;
+
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.relaxedResponseFields;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class EnrollmentControllerTest extends BaseControllerTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    EnrollmentPermits enrollmentPermits;
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @Before
+    public void setUp() {
+        this.enrollmentRepository.deleteAll();
+        this.eventRepository.deleteAll();
+        this.accountRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("참가 신청을 하고 같은 요청을 다시 보내면 처음 신청을 그대로 응답하는 테스트")
+    public void enroll() throws Exception {
+        Event event = event(10, EventStatus.BEGAN_ENROLLMENT);
+        String bearerToken = getBearerToken();
+
+        String response = this.mockMvc.perform(post("/api/events/{eventId}/enrollments", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+            .accept(MediaTypes.HAL_JSON))
+            .andDo(print())
+            .andExpect(status().isCreated())
+            .andExpect(header().exists(HttpHeaders.LOCATION))
+            .andExpect(jsonPath("status").value("ENROLLED"))
+            .andExpect(jsonPath("waitlistPosition").doesNotExist())
+            .andDo(document("create-enrollment",
+                links(
+                    linkWithRel("self").description("link to self"),
+                    linkWithRel("event").description("link to the event"),
+                    linkWithRel("profile").description("link to profile")
+                ),
+                relaxedResponseFields(
+                    fieldWithPath("id").description("id of the enrollment"),
+                    fieldWithPath("eventId").description("id of the event"),
+                    fieldWithPath("status").description("ENROLLED or WAITLISTED"),
+                    fieldWithPath("enrolledAt").description("date time of the enrollment"),
+                    fieldWithPath("waitlistPosition").type(JsonFieldType.NUMBER).optional().description("place on the waitlist, only when waitlisted")
+                )))
+            .andReturn().getResponse().getContentAsString();
+        Integer id = JsonPath.read(response, "id");
+
+        this.mockMvc.perform(post("/api/events/{eventId}/enrollments", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, bearerToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("id").value(id));
+    }
+
+    @Test
+    @TestDescription("정원이 찬 이벤트에 신청하면 대기 순번을 받는 테스트")
+    public void enrollOnFullEvent() throws Exception {
+        Event event = event(0, EventStatus.BEGAN_ENROLLMENT);
+
+        this.mockMvc.perform(post("/api/events/{eventId}/enrollments", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, getBearerToken()))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("status").value("WAITLISTED"))
+            .andExpect(jsonPath("waitlistPosition").value(1));
+    }
+
+    @Test
+    @TestDescription("참가 신청을 받지 않는 이벤트에 신청하면 409를 응답하는 테스트")
+    public void enrollOnClosedEvent() throws Exception {
+        Event event = event(10, EventStatus.PUBLISHED);
+
+        this.mockMvc.perform(post("/api/events/{eventId}/enrollments", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, getBearerToken()))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @TestDescription("참가 신청을 취소하고 다른 사용자는 조회할 수 없는 테스트")
+    public void cancelEnrollment() throws Exception {
+        Event event = event(10, EventStatus.BEGAN_ENROLLMENT);
+        String bearerToken = getBearerToken();
+        String response = this.mockMvc.perform(post("/api/events/{eventId}/enrollments", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, bearerToken))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        Integer id = JsonPath.read(response, "id");
+
+        this.mockMvc.perform(get("/api/events/{eventId}/enrollments/{id}", event.getId(), id))
+            .andExpect(status().isUnauthorized());
+
+        this.mockMvc.perform(delete("/api/events/{eventId}/enrollments/{id}", event.getId(), id)
+            .header(HttpHeaders.AUTHORIZATION, bearerToken))
+            .andExpect(status().isNoContent());
+
+        this.mockMvc.perform(get("/api/events/{eventId}/enrollments/{id}", event.getId(), id)
+            .header(HttpHeaders.AUTHORIZATION, bearerToken))
+            .andExpect(status().isNotFound());
+    }
+
+    private Event event(int limitOfEnrollment, EventStatus eventStatus) {
+        Event event = this.eventRepository.save(Event.builder()
+            .name("Spring")
+            .limitOfEnrollment(limitOfEnrollment)
+            .eventStatus(eventStatus)
+            .build());
+        this.enrollmentPermits.invalidate(event.getId());
+        return event;
+    }
+
+    private String getBearerToken() throws Exception {
+        this.accountService.saveAccount(Account.builder()
+            .email(appProperties.getUserUsername())
+            .password(appProperties.getUserPassword())
+            .roles(Set.of(AccountRole.USER))
+            .build());
+
+        String response = this.mockMvc.perform(post("/oauth/token")
+            .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+            .param("username", appProperties.getUserUsername())
+            .param("password", appProperties.getUserPassword())
+            .param("grant_type", "password"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return "Bearer " + new Jackson2JsonParser().parseMap(response).get("access_token");
+    }
+}
@@ -6,10 +6,21 @@ import com.jayden.tutorial.springrestapi.domain.account.Account;
 import com.jayden.tutorial.springrestapi.domain.account.AccountRole;
 import com.jayden.tutorial.springrestapi.domain.account.AccountService;
 import com.jayden.tutorial.springrestapi.domain.account.infra.AccountRepository;
+import com.jayden.tutorial.springrestapi.domain.enrollment.Enrollment;
+import com.jayden.tutorial.springrestapi.domain.enrollment.EnrollmentPermits;
+import com.jayden.tutorial.springrestapi.domain.enrollment.EnrollmentService;
+import com.jayden.tutorial.springrestapi.domain.enrollment.EnrollmentStatus;
+import com.jayden.tutorial.springrestapi.domain.enrollment.infra.EnrollmentRepository;
 import com.jayden.tutorial.springrestapi.domain.event.Event;
 import com.jayden.tutorial.springrestapi.domain.event.EventDto;
+import com.jayden.tutorial.springrestapi.domain.event.EventExporter;
+import com.jayden.tutorial.springrestapi.domain.event.EventPatch;
 import com.jayden.tutorial.springrestapi.domain.event.EventStatus;
 import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import com.jayway.jsonpath.JsonPath;
+import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,10 +31,13 @@ import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
 import org.springframework.test.web.servlet.ResultActions;
 
+import javax.persistence.EntityManagerFactory;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
@@ -48,6 +62,18 @@ public class EventControllerTest extends BaseControllerTest {
     @Autowired
     AppProperties appProperties;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    EnrollmentService enrollmentService;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    EnrollmentPermits enrollmentPermits;
+
     @Before
     public void setUp() {
         this.eventRepository.deleteAll();
@@ -132,6 +158,47 @@ public class EventControllerTest extends BaseControllerTest {
             ));
     }
 
+    @Test
+    @TestDescription("여러 이벤트를 한 번에 생성하고 잘못된 항목만 실패로 응답받기")
+    public void createEvents() throws Exception {
+        // given
+        EventDto wrongEventDto = buildEventDto("Wrong");
+        wrongEventDto.setBasePrice(20000);
+        wrongEventDto.setMaxPrice(1000);
+        List<EventDto> eventDtos = List.of(buildEventDto("Spring"), wrongEventDto, buildEventDto("JPA"));
+
+        // when & then
+        mockMvc.perform(post("/api/events/bulk")
+            .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+            .contentType(MediaType.APPLICATION_JSON_UTF8)
+            .accept(MediaTypes.HAL_JSON)
+            .content(objectMapper.writeValueAsString(eventDtos)))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("created").value(2))
+            .andExpect(jsonPath("failed").value(1))
+            .andExpect(jsonPath("failures[0].index").value(1))
+            .andExpect(jsonPath("failures[0].errors[0].field").exists())
+            .andExpect(jsonPath("_links.query-events").exists());
+
+        assertThat(this.eventRepository.count()).isEqualTo(2);
+    }
+
+    private EventDto buildEventDto(String name) {
+        return EventDto.builder()
+            .name(name)
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2019, 10, 1, 0, 0, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2019, 10, 2, 23, 59, 59))
+            .beginEventDateTime(LocalDateTime.of(2019, 11, 1, 10, 0, 0))
+            .endEventDateTime(LocalDateTime.of(2019, 11, 2, 18, 0, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("마곡역 이매너스")
+            .build();
+    }
+
     private String getBearerToken() throws Exception {
         return getBearerToken(true);
     }
@@ -253,6 +320,243 @@ public class EventControllerTest extends BaseControllerTest {
         // TODO 문서화
     }
 
+    @Test
+    @TestDescription("상태와 가격 조건으로 걸러낸 이벤트 목록 조회하기")
+    public void queryEventsWithSearch() throws Exception {
+        // given
+        IntStream.range(0, 30).forEach(index -> {
+            Event event = buildEvent(index);
+            event.setBasePrice(index * 10);
+            event.setEventStatus(index % 3 == 0 ? EventStatus.PUBLISHED : EventStatus.DRAFT);
+            this.eventRepository.save(event);
+        });
+
+        // when & then
+        this.mockMvc.perform(get("/api/events?eventStatus=PUBLISHED&basePriceFrom=100&basePriceTo=200"
+            + "&eventFrom=2019-11-01T00:00:00&size=10"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("page.totalElements").value(3))
+            .andExpect(jsonPath("_embedded.eventList[*].eventStatus", Matchers.everyItem(Matchers.is("PUBLISHED"))))
+            .andExpect(jsonPath("_links.self.href", Matchers.containsString("eventStatus=PUBLISHED")));
+    }
+
+    @Test
+    @TestDescription("생성하고 수정한 이벤트를 키워드로 검색하기")
+    public void searchEvents() throws Exception {
+        // given
+        EventDto eventDto = EventDto.builder()
+            .name("Searchable Spring")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2019, 10, 1, 0, 0, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2019, 10, 2, 23, 59, 59))
+            .beginEventDateTime(LocalDateTime.of(2019, 11, 1, 10, 0, 0))
+            .endEventDateTime(LocalDateTime.of(2019, 11, 2, 18, 0, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("강남역 D2 스타텁 팩토리")
+            .build();
+        String bearerToken = getBearerToken();
+        MockHttpServletResponse created = this.mockMvc.perform(post("/api/events")
+            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+            .contentType(MediaType.APPLICATION_JSON_UTF8)
+            .content(objectMapper.writeValueAsString(eventDto)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse();
+        Integer id = JsonPath.read(created.getContentAsString(), "id");
+
+        // when & then
+        this.mockMvc.perform(get("/api/events/search").param("q", "searchab*"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("page.totalElements").value(1))
+            .andExpect(jsonPath("_embedded.eventList[0].id").value(id))
+            .andExpect(jsonPath("_links.profile").exists());
+
+        eventDto.setName("Renamed Kotlin");
+        this.mockMvc.perform(put("/api/events/{id}", id)
+            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+            .contentType(MediaType.APPLICATION_JSON_UTF8)
+            .content(objectMapper.writeValueAsString(eventDto)))
+            .andExpect(status().isOk());
+
+        this.mockMvc.perform(get("/api/events/search").param("q", "searchable"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("page.totalElements").value(0));
+        this.mockMvc.perform(get("/api/events/search").param("q", "renamed kotlin"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("_embedded.eventList[0].id").value(id));
+    }
+
+    @Test
+    @TestDescription("전체 개수 조회 없이 30개의 이벤트를 10개씩 두 번째 페이지 조회하기")
+    public void queryEventsBySlice() throws Exception {
+        // given
+        IntStream.range(0, 30).forEach(this::generateEvents);
+
+        // when & then
+        this.mockMvc.perform(get("/api/events")
+            .param("slice", "true")
+            .param("page", "1")
+            .param("size", "10")
+            .param("sort", "name,DESC"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("page").doesNotExist())
+            .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+            .andExpect(jsonPath("_links.self").exists())
+            .andExpect(jsonPath("_links.prev").exists())
+            .andExpect(jsonPath("_links.next").exists())
+            .andExpect(jsonPath("_links.profile").exists());
+    }
+
+    @Test
+    @TestDescription("전체 개수 조회 없이 상태 조건으로 걸러낸 이벤트 목록 조회하기")
+    public void queryEventsBySliceWithSearch() throws Exception {
+        // given
+        IntStream.range(0, 30).forEach(index -> {
+            Event event = buildEvent(index);
+            event.setEventStatus(index % 3 == 0 ? EventStatus.PUBLISHED : EventStatus.DRAFT);
+            this.eventRepository.save(event);
+        });
+
+        // when & then
+        this.mockMvc.perform(get("/api/events?slice=true&total=true&eventStatus=PUBLISHED&size=4"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("page.totalElements").value(10))
+            .andExpect(jsonPath("_embedded.eventList.length()").value(4))
+            .andExpect(jsonPath("_embedded.eventList[*].eventStatus", Matchers.everyItem(Matchers.is("PUBLISHED"))))
+            .andExpect(jsonPath("_links.next.href", Matchers.containsString("eventStatus=PUBLISHED")));
+    }
+
+    @Test
+    @TestDescription("slice=false 로 조회하면 전체 개수와 함께 페이지로 조회하기")
+    public void queryEventsBySliceFalse() throws Exception {
+        // given
+        IntStream.range(0, 30).forEach(this::generateEvents);
+
+        // when & then
+        this.mockMvc.perform(get("/api/events?slice=false&page=1&size=10"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("page.totalElements").value(30))
+            .andExpect(jsonPath("_embedded.eventList.length()").value(10));
+    }
+
+    @Test
+    @TestDescription("캐시된 대략적인 전체 개수와 함께 마지막 페이지 조회하기")
+    public void queryEventsBySliceWithApproximateTotal() throws Exception {
+        // given
+        IntStream.range(0, 30).forEach(this::generateEvents);
+
+        // when & then
+        this.mockMvc.perform(get("/api/events")
+            .param("slice", "true")
+            .param("total", "true")
+            .param("page", "2")
+            .param("size", "10"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("page.totalElements").exists())
+            .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+            .andExpect(jsonPath("_links.prev").exists())
+            .andExpect(jsonPath("_links.next").doesNotExist());
+    }
+
+    @Test
+    @TestDescription("30개의 이벤트를 NDJSON으로 내보내기")
+    public void exportEvents() throws Exception {
+        // given
+        IntStream.range(0, 30).forEach(this::generateEvents);
+
+        // when
+        MockHttpServletResponse response = this.mockMvc.perform(get("/api/events/export"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_TYPE, Matchers.startsWith(EventExporter.NDJSON_VALUE)))
+            .andReturn().getResponse();
+
+        // then
+        String[] lines = response.getContentAsString().split("\n");
+        assertThat(lines).hasSize(30);
+        assertThat(objectMapper.readTree(lines[0]).get("name").asText()).isEqualTo("event 0");
+    }
+
+    @Test
+    @TestDescription("커서 기반으로 30개의 이벤트를 10개씩 다음 페이지까지 조회하기")
+    public void queryEventsByCursor() throws Exception {
+        // given
+        IntStream.range(0, 30).forEach(this::generateEvents);
+
+        // when & then
+        MockHttpServletResponse response = this.mockMvc.perform(get("/api/events")
+            .param("cursor", "")
+            .param("size", "10")
+            .param("sort", "name,DESC"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("page").doesNotExist())
+            .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+            .andExpect(jsonPath("_embedded.eventList[0].name").value("event 9"))
+            .andExpect(jsonPath("_links.self").exists())
+            .andExpect(jsonPath("_links.next").exists())
+            .andExpect(jsonPath("_links.prev").doesNotExist())
+            .andExpect(jsonPath("_links.profile").exists())
+            .andReturn().getResponse();
+
+        String next = JsonPath.read(response.getContentAsString(), "_links.next.href");
+        this.mockMvc.perform(get(next))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+            .andExpect(jsonPath("_embedded.eventList[0].name").value("event 26"))
+            .andExpect(jsonPath("_links.next").exists())
+            .andExpect(jsonPath("_links.prev").exists());
+    }
+
+    @Test
+    @TestDescription("커서 기반으로 상태 조건으로 걸러낸 이벤트를 다음 페이지까지 조회하고 slice=true 보다 커서가 우선하는 테스트")
+    public void queryEventsByCursorWithSearch() throws Exception {
+        // given
+        IntStream.range(0, 30).forEach(index -> {
+            Event event = buildEvent(index);
+            event.setEventStatus(index % 3 == 0 ? EventStatus.PUBLISHED : EventStatus.DRAFT);
+            this.eventRepository.save(event);
+        });
+
+        // when & then
+        MockHttpServletResponse response = this.mockMvc.perform(get("/api/events")
+            .param("cursor", "")
+            .param("slice", "true")
+            .param("eventStatus", "PUBLISHED")
+            .param("size", "4")
+            .param("sort", "name,DESC"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("_embedded.eventList.length()").value(4))
+            .andExpect(jsonPath("_embedded.eventList[0].name").value("event 9"))
+            .andExpect(jsonPath("_embedded.eventList[*].eventStatus", Matchers.everyItem(Matchers.is("PUBLISHED"))))
+            .andExpect(jsonPath("_links.next.href", Matchers.containsString("eventStatus=PUBLISHED")))
+            .andReturn().getResponse();
+
+        String next = JsonPath.read(response.getContentAsString(), "_links.next.href");
+        this.mockMvc.perform(get(next))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("_embedded.eventList.length()").value(4))
+            .andExpect(jsonPath("_embedded.eventList[0].name").value("event 24"))
+            .andExpect(jsonPath("_embedded.eventList[*].eventStatus", Matchers.everyItem(Matchers.is("PUBLISHED"))));
+    }
+
+    @Test
+    @TestDescription("잘못된 커서로 이벤트 목록을 조회할 때 400 응답받기")
+    public void queryEventsByCursor400() throws Exception {
+        this.mockMvc.perform(get("/api/events")
+            .param("cursor", "not-a-cursor"))
+            .andExpect(status().isBadRequest());
+    }
+
     private Event generateEvents(int index) {
         Event event = buildEvent(index);
         return this.eventRepository.save(event);
@@ -331,6 +635,117 @@ public class EventControllerTest extends BaseControllerTest {
             .andDo(document("update-event"));
     }
 
+    @Test
+    @TestDescription("ETag가 같으면 이벤트 본문 없이 304 응답받기")
+    public void getEventNotModified() throws Exception {
+        // given
+        Account account = this.createAccount();
+        Event event = this.generateEvents(100, account);
+
+        String etag = this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        this.mockMvc.perform(get("/api/events/{id}", event.getId())
+            .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andDo(print())
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @TestDescription("이벤트 목록의 ETag가 같으면 304, 이벤트가 바뀌면 200 응답받기")
+    public void queryEventsNotModified() throws Exception {
+        // given
+        IntStream.range(0, 5).forEach(this::generateEvents);
+        String etag = this.mockMvc.perform(get("/api/events"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        this.mockMvc.perform(get("/api/events").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        Event event = this.eventRepository.findAll().get(0);
+        event.setName("Changed Event");
+        this.eventRepository.save(event);
+
+        this.mockMvc.perform(get("/api/events").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, Matchers.not(etag)));
+    }
+
+    @Test
+    @TestDescription("페이지 크기와 관계없이 이벤트 목록 조회의 SQL 문 개수가 같은지 확인하는 테스트")
+    public void queryEventsStatementCount() throws Exception {
+        // given
+        IntStream.range(0, 30).forEach(index -> this.generateEvents(index, this.accountRepository.save(Account.builder()
+            .email("manager" + index + "@email.com")
+            .password("pass")
+            .roles(Set.of(AccountRole.USER))
+            .build())));
+        SessionFactory sessionFactory = this.entityManagerFactory.unwrap(SessionFactory.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        for (int size : new int[]{5, 10, 20}) {
+            sessionFactory.getCache().evictAllRegions();
+            statistics.clear();
+
+            // when
+            this.mockMvc.perform(get("/api/events")
+                .param("page", "0")
+                .param("size", String.valueOf(size)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(size))
+                .andExpect(jsonPath("_embedded.eventList[0].manager.id").exists());
+
+            // then: the page and the count, no manager or role selects
+            assertThat(statistics.getPrepareStatementCount()).as("size %d", size).isEqualTo(2);
+            assertThat(statistics.getEntityLoadCount()).as("size %d", size).isEqualTo(size);
+        }
+    }
+
+    @Test
+    @TestDescription("If-Match의 ETag가 현재 버전과 다르면 이벤트 수정 시 412 응답받기")
+    public void updateEventPreconditionFailed() throws Exception {
+        // given
+        Account account = this.createAccount();
+        Event event = this.generateEvents(100, account);
+        String bearerToken = getBearerToken(false);
+
+        EventDto eventDto = modelMapper.map(event, EventDto.class);
+        eventDto.setName("Updated Event Name");
+
+        String etag = this.mockMvc.perform(get("/api/events/{id}", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, bearerToken))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        String updatedEtag = this.mockMvc.perform(put("/api/events/{id}", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+            .header(HttpHeaders.IF_MATCH, etag)
+            .contentType(MediaType.APPLICATION_JSON_UTF8)
+            .content(this.objectMapper.writeValueAsString(eventDto)))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(updatedEtag).isNotEqualTo(etag);
+
+        this.mockMvc.perform(put("/api/events/{id}", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+            .header(HttpHeaders.IF_MATCH, etag)
+            .contentType(MediaType.APPLICATION_JSON_UTF8)
+            .content(this.objectMapper.writeValueAsString(eventDto)))
+            .andDo(print())
+            .andExpect(status().isPreconditionFailed());
+    }
+
     @Test
     @TestDescription("입력값이 비어있는 경우에 이벤트 수정 실패 테스트")
     public void updateEvent400Empty() throws Exception {
@@ -367,6 +782,31 @@ public class EventControllerTest extends BaseControllerTest {
             .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @TestDescription("참가 인원보다 적은 정원으로 이벤트를 수정하면 400 응답받기")
+    public void updateEventLimitBelowEnrollments() throws Exception {
+        // given
+        Account account = this.createAccount();
+        Event event = buildEvent(100);
+        event.setManager(account);
+        event.setNumberOfEnrollments(5);
+        event = this.eventRepository.save(event);
+
+        EventDto eventDto = this.modelMapper.map(event, EventDto.class);
+        eventDto.setLimitOfEnrollment(4);
+
+        // when & then
+        this.mockMvc.perform(put("/api/events/{id}", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, getBearerToken(false))
+            .contentType(MediaType.APPLICATION_JSON_UTF8)
+            .content(this.objectMapper.writeValueAsString(eventDto)))
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("content[0].field").value("limitOfEnrollment"));
+
+        assertThat(this.eventRepository.findById(event.getId()).orElseThrow().getLimitOfEnrollment()).isEqualTo(100);
+    }
+
     @Test
     @TestDescription("존재하지 않는 이벤트 수정 실패 테스트")
     public void updateEvent404() throws Exception {
@@ -382,4 +822,233 @@ public class EventControllerTest extends BaseControllerTest {
             .andDo(print())
             .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    @TestDescription("바꿀 필드만 보내서 이벤트를 UPDATE 한 번으로 일부 수정하기")
+    public void patchEvent() throws Exception {
+        // given
+        Account account = this.createAccount();
+        Event event = this.generateEvents(100, account);
+        String bearerToken = getBearerToken(false);
+        String etag = getEtag(event, bearerToken);
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        String patchedEtag = this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+            .header(HttpHeaders.IF_MATCH, etag)
+            .contentType(EventPatch.MEDIA_TYPE)
+            .content("{\"maxPrice\": 300, \"location\": null}"))
+            .andDo(print())
+            .andExpect(status().isNoContent())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andDo(document("patch-event"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(patchedEtag).isNotEqualTo(etag);
+        this.mockMvc.perform(get("/api/events/{id}", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, bearerToken))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, patchedEtag))
+            .andExpect(jsonPath("name").value(event.getName()))
+            .andExpect(jsonPath("basePrice").value(100))
+            .andExpect(jsonPath("maxPrice").value(300))
+            .andExpect(jsonPath("offline").value(false))
+            .andExpect(jsonPath("free").value(false));
+    }
+
+    @Test
+    @TestDescription("가격 하나만 일부 수정해도 저장된 다른 가격으로 무료 여부가 계산되는 테스트")
+    public void patchEventFree() throws Exception {
+        // given
+        Account account = this.createAccount();
+        Event event = this.generateEvents(100, account);
+        String bearerToken = getBearerToken(false);
+        String etag = getEtag(event, bearerToken);
+
+        // when
+        for (String price : List.of("maxPrice", "basePrice")) {
+            etag = this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(EventPatch.MEDIA_TYPE)
+                .content("{\"" + price + "\": 0}"))
+                .andExpect(status().isNoContent())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(this.eventRepository.findById(event.getId()).orElseThrow().isFree())
+                .isEqualTo("basePrice".equals(price));
+        }
+    }
+
+    @Test
+    @TestDescription("If-Match 없이 이벤트를 일부 수정하면 428 응답받기")
+    public void patchEventPreconditionRequired() throws Exception {
+        // given
+        Account account = this.createAccount();
+        Event event = this.generateEvents(100, account);
+
+        // when & then
+        this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, getBearerToken(false))
+            .contentType(EventPatch.MEDIA_TYPE)
+            .content("{\"name\": \"Patched Event\"}"))
+            .andDo(print())
+            .andExpect(status().isPreconditionRequired());
+    }
+
+    @Test
+    @TestDescription("If-Match의 ETag가 현재 버전과 다르면 이벤트 일부 수정 시 412 응답받기")
+    public void patchEventPreconditionFailed() throws Exception {
+        // given
+        Account account = this.createAccount();
+        Event event = this.generateEvents(100, account);
+        String bearerToken = getBearerToken(false);
+        String etag = getEtag(event, bearerToken);
+
+        this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+            .header(HttpHeaders.IF_MATCH, etag)
+            .contentType(EventPatch.MEDIA_TYPE)
+            .content("{\"name\": \"Patched Event\", \"description\": \"patched\"}"))
+            .andExpect(status().isNoContent());
+
+        // when & then
+        this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+            .header(HttpHeaders.IF_MATCH, etag)
+            .contentType(EventPatch.MEDIA_TYPE)
+            .content("{\"name\": \"Lost Update\"}"))
+            .andDo(print())
+            .andExpect(status().isPreconditionFailed());
+        assertThat(this.eventRepository.findById(event.getId()).orElseThrow().getName()).isEqualTo("Patched Event");
+    }
+
+    @Test
+    @TestDescription("다른 사람이 관리하는 이벤트를 일부 수정하면 401 응답받기")
+    public void patchEventNotManager() throws Exception {
+        // given
+        Event event = this.generateEvents(100);
+        String bearerToken = getBearerToken();
+        String etag = getEtag(event, bearerToken);
+
+        // when & then
+        this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+            .header(HttpHeaders.IF_MATCH, etag)
+            .contentType(EventPatch.MEDIA_TYPE)
+            .content("{\"name\": \"Patched Event\"}"))
+            .andDo(print())
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @TestDescription("수정하지 않는 필드와 맞지 않는 값으로 이벤트를 일부 수정하면 400 응답받기")
+    public void patchEvent400Wrong() throws Exception {
+        // given
+        Account account = this.createAccount();
+        Event event = this.generateEvents(100, account);
+        String bearerToken = getBearerToken(false);
+        String etag = getEtag(event, bearerToken);
+
+        // when & then
+        this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+            .header(HttpHeaders.IF_MATCH, etag)
+            .contentType(EventPatch.MEDIA_TYPE)
+            .content("{\"basePrice\": 500}"))
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("content[0].field").value("basePrice"));
+
+        this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+            .header(HttpHeaders.IF_MATCH, etag)
+            .contentType(EventPatch.MEDIA_TYPE)
+            .content("{\"name\": null, \"eventStatus\": \"PUBLISHED\"}"))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+
+        assertThat(this.eventRepository.findById(event.getId()).orElseThrow().getVersion())
+            .isEqualTo(event.getVersion());
+    }
+
+    @Test
+    @TestDescription("참가 인원보다 적은 정원으로 이벤트를 일부 수정하면 400 응답받기")
+    public void patchEventLimitBelowEnrollments() throws Exception {
+        // given
+        Account account = this.createAccount();
+        Event event = buildEvent(100);
+        event.setManager(account);
+        event.setNumberOfEnrollments(5);
+        event = this.eventRepository.save(event);
+        String bearerToken = getBearerToken(false);
+        String etag = getEtag(event, bearerToken);
+
+        // when & then
+        this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+            .header(HttpHeaders.IF_MATCH, etag)
+            .contentType(EventPatch.MEDIA_TYPE)
+            .content("{\"limitOfEnrollment\": 4}"))
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("content[0].field").value("limitOfEnrollment"));
+
+        this.mockMvc.perform(patch("/api/events/{id}", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+            .header(HttpHeaders.IF_MATCH, etag)
+            .contentType(EventPatch.MEDIA_TYPE)
+            .content("{\"limitOfEnrollment\": 5}"))
+            .andDo(print())
+            .andExpect(status().isNoContent());
+
+        assertThat(this.eventRepository.findById(event.getId()).orElseThrow().getLimitOfEnrollment()).isEqualTo(5);
+    }
+
+    @Test
+    @TestDescription("정원을 늘리면 대기자가 먼저 온 순서대로 참가하고 새 신청은 대기하는 테스트")
+    public void patchEventLimitPromotesWaitlist() throws Exception {
+        // given
+        Account account = this.createAccount();
+        Event event = buildEvent(100);
+        event.setManager(account);
+        event.setLimitOfEnrollment(1);
+        event.setEventStatus(EventStatus.BEGAN_ENROLLMENT);
+        event = this.eventRepository.save(event);
+        Long eventId = event.getId();
+        this.enrollmentPermits.invalidate(eventId);
+        this.enrollmentRepository.deleteAll();
+        this.enrollmentService.enroll(eventId, Account.builder().id(1L).build());
+        Enrollment first = this.enrollmentService.enroll(eventId, Account.builder().id(2L).build()).getEnrollment();
+        Enrollment second = this.enrollmentService.enroll(eventId, Account.builder().id(3L).build()).getEnrollment();
+        assertThat(first.getStatus()).isEqualTo(EnrollmentStatus.WAITLISTED);
+        String bearerToken = getBearerToken(false);
+
+        // when
+        this.mockMvc.perform(patch("/api/events/{id}", eventId)
+            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+            .header(HttpHeaders.IF_MATCH, getEtag(event, bearerToken))
+            .contentType(EventPatch.MEDIA_TYPE)
+            .content("{\"limitOfEnrollment\": 2}"))
+            .andDo(print())
+            .andExpect(status().isNoContent());
+
+        // then
+        assertThat(this.enrollmentRepository.findById(first.getId()).orElseThrow().getStatus()).isEqualTo(EnrollmentStatus.ENROLLED);
+        assertThat(this.enrollmentRepository.findById(second.getId()).orElseThrow().getStatus()).isEqualTo(EnrollmentStatus.WAITLISTED);
+        assertThat(this.eventRepository.findRemainingSeatsById(eventId)).contains(0);
+        assertThat(this.enrollmentService.enroll(eventId, Account.builder().id(4L).build()).getEnrollment().getStatus())
+            .isEqualTo(EnrollmentStatus.WAITLISTED);
+    }
+
+    private String getEtag(Event event, String bearerToken) throws Exception {
+        return this.mockMvc.perform(get("/api/events/{id}", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, bearerToken))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,156 @@
+package com.jayden.tutorial.springrestapi.controller;
+
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.common.TestDescription;
+import com.jayden.tutorial.springrestapi.domain.account.Account;
+import com.jayden.tutorial.springrestapi.domain.account.AccountRole;
+import com.jayden.tutorial.springrestapi.domain.account.AccountService;
+import com.jayden.tutorial.springrestapi.domain.account.infra.AccountRepository;
+import com.jayden.tutorial.springrestapi.domain.event.EventDto;
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.relaxedResponseFields;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@TestPropertySource(properties = "my-app.event-write-behind=true")
+public class EventWriteBehindTest extends BaseControllerTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @Before
+    public void setUp() {
+        this.eventRepository.deleteAll();
+        this.accountRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("지연 쓰기 모드에서 이벤트 생성 요청을 202로 접수하고 백그라운드에서 저장하는 테스트")
+    public void createEventWriteBehind() throws Exception {
+        MockHttpServletResponse response = this.mockMvc.perform(post("/api/events")
+            .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+            .contentType(MediaType.APPLICATION_JSON_UTF8)
+            .accept(MediaTypes.HAL_JSON)
+            .content(objectMapper.writeValueAsString(eventDto())))
+            .andDo(print())
+            .andExpect(status().isAccepted())
+            .andExpect(header().exists(HttpHeaders.LOCATION))
+            .andExpect(jsonPath("id").exists())
+            .andExpect(jsonPath("status").exists())
+            .andExpect(jsonPath("_links.self").exists())
+            .andDo(document("create-event-write-behind",
+                links(
+                    linkWithRel("self").description("link to the status of the queued event"),
+                    linkWithRel("event").optional().description("link to the event once it is created"),
+                    linkWithRel("profile").description("link to profile")
+                ),
+                relaxedResponseFields(
+                    fieldWithPath("id").description("ticket of the queued event"),
+                    fieldWithPath("status").description("PENDING, CREATED or FAILED"),
+                    fieldWithPath("acceptedAt").description("date time the event was queued"),
+                    fieldWithPath("eventId").optional().description("id of the created event, null until it is created")
+                )))
+            .andReturn().getResponse();
+
+        String location = response.getHeader(HttpHeaders.LOCATION);
+        String status = null;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"CREATED".equals(status) && System.nanoTime() < deadline) {
+            String ticket = this.mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+            status = JsonPath.read(ticket, "status");
+            Thread.sleep(10);
+        }
+
+        assertThat(status).isEqualTo("CREATED");
+        this.mockMvc.perform(get(location))
+            .andExpect(jsonPath("eventId").exists())
+            .andExpect(jsonPath("_links.event").exists());
+        assertThat(this.eventRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("지연 쓰기 모드에서도 잘못된 입력은 바로 400으로 응답하는 테스트")
+    public void createEventWriteBehind_Bad_Request() throws Exception {
+        EventDto eventDto = eventDto();
+        eventDto.setBasePrice(10000);
+
+        this.mockMvc.perform(post("/api/events")
+            .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+            .contentType(MediaType.APPLICATION_JSON_UTF8)
+            .content(objectMapper.writeValueAsString(eventDto)))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @TestDescription("알 수 없는 접수 번호를 조회하면 404로 응답하는 테스트")
+    public void getUnknownEventWrite() throws Exception {
+        this.mockMvc.perform(get("/api/events/writes/{ticket}", "unknown"))
+            .andExpect(status().isNotFound());
+    }
+
+    private String getBearerToken() throws Exception {
+        this.accountService.saveAccount(Account.builder()
+            .email(appProperties.getUserUsername())
+            .password(appProperties.getUserPassword())
+            .roles(Set.of(AccountRole.USER))
+            .build());
+
+        String response = this.mockMvc.perform(post("/oauth/token")
+            .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+            .param("username", appProperties.getUserUsername())
+            .param("password", appProperties.getUserPassword())
+            .param("grant_type", "password"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return "Bearer " + new Jackson2JsonParser().parseMap(response).get("access_token");
+    }
+
+    private static EventDto eventDto() {
+        return EventDto.builder()
+            .name("Spring")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2019, 10, 1, 0, 0, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2019, 10, 2, 23, 59, 59))
+            .beginEventDateTime(LocalDateTime.of(2019, 11, 1, 10, 0, 0))
+            .endEventDateTime(LocalDateTime.of(2019, 11, 2, 18, 0, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("D2 Startup Factory")
+            .build();
+    }
+}
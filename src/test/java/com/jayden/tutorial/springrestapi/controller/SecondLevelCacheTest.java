@@ -0,0 +1,162 @@
+package com.jayden.tutorial.springrestapi.controller;
+
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.common.TestDescription;
+import com.jayden.tutorial.springrestapi.domain.account.Account;
+import com.jayden.tutorial.springrestapi.domain.account.AccountRole;
+import com.jayden.tutorial.springrestapi.domain.account.AccountService;
+import com.jayden.tutorial.springrestapi.domain.account.infra.AccountRepository;
+import com.jayden.tutorial.springrestapi.domain.enrollment.EnrollmentPermits;
+import com.jayden.tutorial.springrestapi.domain.enrollment.EnrollmentService;
+import com.jayden.tutorial.springrestapi.domain.enrollment.infra.EnrollmentRepository;
+import com.jayden.tutorial.springrestapi.domain.event.Event;
+import com.jayden.tutorial.springrestapi.domain.event.EventDto;
+import com.jayden.tutorial.springrestapi.domain.event.EventStatus;
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The second-level cache is off in the test profile; only these tests run with it.
+ */
+@TestPropertySource(properties = "my-app.second-level-cache=true")
+public class SecondLevelCacheTest extends BaseControllerTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    EnrollmentService enrollmentService;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    EnrollmentPermits enrollmentPermits;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Before
+    public void setUp() {
+        this.enrollmentRepository.deleteAll();
+        this.eventRepository.deleteAll();
+        this.accountRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("이벤트 수정 후 2차 캐시에서 수정된 이벤트를 조회하는 테스트")
+    public void updateEventRefreshesSecondLevelCache() throws Exception {
+        // given
+        Account account = this.accountService.saveAccount(Account.builder()
+            .email(appProperties.getUserUsername())
+            .password(appProperties.getUserPassword())
+            .roles(Set.of(AccountRole.USER))
+            .build());
+        Event event = this.eventRepository.save(Event.builder()
+            .name("event 100")
+            .description("test event")
+            .beginEnrollmentDateTime(LocalDateTime.of(2019, 10, 1, 0, 0, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2019, 10, 2, 23, 59, 59))
+            .beginEventDateTime(LocalDateTime.of(2019, 11, 1, 10, 0, 0))
+            .endEventDateTime(LocalDateTime.of(2019, 11, 2, 18, 0, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("마곡역 이매너스")
+            .eventStatus(EventStatus.DRAFT)
+            .manager(account)
+            .build());
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+            .andExpect(jsonPath("name").value(event.getName()));
+        assertThat(this.entityManagerFactory.getCache().contains(Event.class, event.getId())).isTrue();
+
+        EventDto eventDto = modelMapper.map(event, EventDto.class);
+        String eventName = "Cached Event Name";
+        eventDto.setName(eventName);
+
+        // when
+        this.mockMvc.perform(put("/api/events/{id}", event.getId())
+            .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+            .contentType(MediaType.APPLICATION_JSON_UTF8)
+            .content(this.objectMapper.writeValueAsString(eventDto)))
+            .andExpect(status().isOk());
+
+        // then
+        long hitCount = statistics.getSecondLevelCacheHitCount();
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("name").value(eventName));
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(hitCount);
+    }
+
+    @Test
+    @TestDescription("참가 신청은 해당 이벤트만 2차 캐시에서 제거하는 테스트")
+    public void enrollEvictsOnlyItsEvent() {
+        Long eventId = openEvent().getId();
+        Long otherEventId = openEvent().getId();
+        this.eventRepository.findById(eventId);
+        this.eventRepository.findById(otherEventId);
+        Cache cache = this.entityManagerFactory.getCache();
+        assertThat(cache.contains(Event.class, eventId)).isTrue();
+
+        this.enrollmentService.enroll(eventId, Account.builder().id(1L).build());
+
+        assertThat(cache.contains(Event.class, eventId)).isFalse();
+        assertThat(cache.contains(Event.class, otherEventId)).isTrue();
+        assertThat(this.eventRepository.findById(eventId).orElseThrow().getNumberOfEnrollments()).isEqualTo(1);
+    }
+
+    private Event openEvent() {
+        Event event = this.eventRepository.save(Event.builder()
+            .name("Spring")
+            .limitOfEnrollment(1)
+            .eventStatus(EventStatus.BEGAN_ENROLLMENT)
+            .build());
+        this.enrollmentPermits.invalidate(event.getId());
+        return event;
+    }
+
+    private String getBearerToken() throws Exception {
+        String response = this.mockMvc.perform(post("/oauth/token")
+            .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+            .param("username", appProperties.getUserUsername())
+            .param("password", appProperties.getUserPassword())
+            .param("grant_type", "password"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return "Bearer " + new Jackson2JsonParser().parseMap(response).get("access_token");
+    }
+}
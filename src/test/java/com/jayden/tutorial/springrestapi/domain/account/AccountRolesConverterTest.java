@@ -0,0 +1,52 @@
+package com.jayden.tutorial.springrestapi.domain.account;
+
+import com.jayden.tutorial.springrestapi.common.TestDescription;
+import com.jayden.tutorial.springrestapi.domain.AccountAdapter;
+import org.junit.Test;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccountRolesConverterTest {
+
+    private final AccountRolesConverter converter = new AccountRolesConverter();
+
+    @Test
+    @TestDescription("역할 집합을 비트마스크로 저장하고 같은 집합으로 읽어오는 테스트")
+    public void roundTrip() {
+        assertThat(converter.convertToDatabaseColumn(Set.of(AccountRole.ADMIN))).isEqualTo(1);
+        assertThat(converter.convertToDatabaseColumn(Set.of(AccountRole.USER))).isEqualTo(2);
+        assertThat(converter.convertToDatabaseColumn(Set.of(AccountRole.ADMIN, AccountRole.USER))).isEqualTo(3);
+        assertThat(converter.convertToDatabaseColumn(null)).isEqualTo(0);
+
+        assertThat(converter.convertToEntityAttribute(3)).containsExactlyInAnyOrder(AccountRole.ADMIN, AccountRole.USER);
+        assertThat(converter.convertToEntityAttribute(2)).containsExactly(AccountRole.USER);
+        assertThat(converter.convertToEntityAttribute(null)).isEmpty();
+        // bits of unknown roles are ignored
+        assertThat(converter.convertToEntityAttribute(0x10 | 1)).containsExactly(AccountRole.ADMIN);
+    }
+
+    @Test
+    @TestDescription("같은 역할 조합이면 역할 집합과 권한 집합을 공유하는 테스트")
+    public void sharedImmutableSets() {
+        assertThat(converter.convertToEntityAttribute(3)).isSameAs(converter.convertToEntityAttribute(3));
+
+        AccountAdapter admin = new AccountAdapter(account("admin@email.com", Set.of(AccountRole.ADMIN, AccountRole.USER)));
+        AccountAdapter otherAdmin = new AccountAdapter(account("other@email.com", converter.convertToEntityAttribute(3)));
+
+        assertThat(admin.getAuthorities()).isSameAs(otherAdmin.getAuthorities());
+        assertThat(AuthorityUtils.authorityListToSet(admin.getAuthorities())).containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_USER");
+        assertThat(new AccountAdapter(account("user@email.com", Set.of(AccountRole.USER))).getAuthorities())
+            .extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    private Account account(String email, Set<AccountRole> roles) {
+        return Account.builder()
+            .email(email)
+            .password("pass")
+            .roles(roles)
+            .build();
+    }
+}
@@ -36,6 +36,9 @@ public class AccountServiceTest {
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @Autowired
+    AccountCache accountCache;
+
     @Test
     public void findByUsername() throws Exception {
         // given
@@ -57,6 +60,56 @@ public class AccountServiceTest {
         assertThat(passwordEncoder.matches(password, userDetails.getPassword())).isTrue();
     }
 
+    @Test
+    public void findByUsernameFromCache() {
+        // given
+        String username = "cache@email.com";
+        Account account = Account.builder()
+                .email(username)
+                .password("1234")
+                .roles(Set.of(AccountRole.USER))
+                .build();
+        this.accountService.saveAccount(account);
+        long hitCount = this.accountCache.stats().hitCount();
+
+        // when
+        this.accountService.loadUserByUsername(username);
+        this.accountService.loadUserByUsername(username);
+
+        // then
+        assertThat(this.accountCache.stats().hitCount()).isEqualTo(hitCount + 1);
+
+        // when
+        account.setPassword("5678");
+        this.accountService.saveAccount(account);
+        UserDetails userDetails = this.accountService.loadUserByUsername(username);
+
+        // then
+        assertThat(passwordEncoder.matches("5678", userDetails.getPassword())).isTrue();
+    }
+
+    @Test(expected = UsernameNotFoundException.class)
+    public void findByUsernameAfterEmailChange() {
+        // given
+        String username = "before@email.com";
+        Account account = Account.builder()
+                .email(username)
+                .password("1234")
+                .roles(Set.of(AccountRole.USER))
+                .build();
+        this.accountService.saveAccount(account);
+        this.accountService.loadUserByUsername(username);
+
+        // when
+        account.setEmail("after@email.com");
+        account.setPassword("1234");
+        this.accountService.saveAccount(account);
+
+        // then
+        assertThat(this.accountService.loadUserByUsername("after@email.com").getUsername()).isEqualTo("after@email.com");
+        this.accountService.loadUserByUsername(username);
+    }
+
     @Test(expected = UsernameNotFoundException.class)
     public void findByUsernameFail1() {
         // given
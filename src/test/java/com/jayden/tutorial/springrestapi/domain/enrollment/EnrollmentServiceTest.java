@@ -0,0 +1,156 @@
+package com.jayden.tutorial.springrestapi.domain.enrollment;
+
+import com.jayden.tutorial.springrestapi.common.TestDescription;
+import com.jayden.tutorial.springrestapi.domain.account.Account;
+import com.jayden.tutorial.springrestapi.domain.enrollment.infra.EnrollmentRepository;
+import com.jayden.tutorial.springrestapi.domain.event.Event;
+import com.jayden.tutorial.springrestapi.domain.event.EventStatus;
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class EnrollmentServiceTest {
+
+    private static final int SEATS = 100;
+
+    private static final int ACCOUNTS = 1_000;
+
+    private static final int ATTEMPTS = 2;
+
+    private static final int THREADS = 32;
+
+    @Autowired
+    EnrollmentService enrollmentService;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    EnrollmentPermits enrollmentPermits;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Before
+    public void setUp() {
+        this.enrollmentRepository.deleteAll();
+        this.eventRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("여러 스레드가 한 이벤트에 동시에 중복 신청해도 정원만큼만 참가하고 나머지는 대기하는 테스트")
+    public void enrollConcurrently() throws Exception {
+        Long eventId = openEvent(SEATS).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<EnrollmentService.Result>> futures = new ArrayList<>();
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            for (long accountId = 1; accountId <= ACCOUNTS; accountId++) {
+                Account account = Account.builder().id(accountId).build();
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return this.enrollmentService.enroll(eventId, account);
+                }));
+            }
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        List<EnrollmentService.Result> results = new ArrayList<>();
+        for (Future<EnrollmentService.Result> future : futures) {
+            results.add(future.get(60, TimeUnit.SECONDS));
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+        log.info("{} enrollment requests on one event with {} threads in {} ms, {} requests/s", results.size(),
+            THREADS, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), results.size() * 1_000_000_000L / elapsedNanos);
+
+        Map<Long, List<EnrollmentService.Result>> resultsByAccount = results.stream()
+            .collect(Collectors.groupingBy(result -> result.getEnrollment().getAccountId()));
+        assertThat(resultsByAccount).hasSize(ACCOUNTS);
+        resultsByAccount.values().forEach(attempts -> {
+            assertThat(attempts.stream().filter(EnrollmentService.Result::isCreated)).hasSize(1);
+            assertThat(attempts.stream().map(result -> result.getEnrollment().getId()).distinct()).hasSize(1);
+        });
+
+        assertThat(this.enrollmentRepository.countByEventIdAndStatus(eventId, EnrollmentStatus.ENROLLED)).isEqualTo(SEATS);
+        assertThat(this.enrollmentRepository.countByEventIdAndStatus(eventId, EnrollmentStatus.WAITLISTED)).isEqualTo(ACCOUNTS - SEATS);
+        assertThat(this.eventRepository.findRemainingSeatsById(eventId)).contains(0);
+
+        List<Enrollment> enrolled = this.enrollmentRepository.findAll().stream()
+            .filter(enrollment -> enrollment.getStatus() == EnrollmentStatus.ENROLLED)
+            .limit(10)
+            .collect(Collectors.toList());
+        List<Enrollment> head = this.enrollmentRepository.findTop10ByEventIdAndStatusOrderByIdAsc(eventId, EnrollmentStatus.WAITLISTED);
+        enrolled.forEach(this.enrollmentService::cancel);
+
+        assertThat(this.enrollmentRepository.countByEventIdAndStatus(eventId, EnrollmentStatus.ENROLLED)).isEqualTo(SEATS);
+        assertThat(this.enrollmentRepository.countByEventIdAndStatus(eventId, EnrollmentStatus.WAITLISTED)).isEqualTo(ACCOUNTS - SEATS - 10);
+        assertThat(this.eventRepository.findRemainingSeatsById(eventId)).contains(0);
+        head.forEach(waiting -> assertThat(this.enrollmentRepository.findById(waiting.getId()).orElseThrow().getStatus())
+            .isEqualTo(EnrollmentStatus.ENROLLED));
+    }
+
+    @Test
+    @TestDescription("대기자가 없을 때 취소하면 자리가 돌아와 다음 신청이 참가하는 테스트")
+    public void cancelReleasesSeat() {
+        Long eventId = openEvent(2).getId();
+        Enrollment first = this.enrollmentService.enroll(eventId, Account.builder().id(1L).build()).getEnrollment();
+        this.enrollmentService.enroll(eventId, Account.builder().id(2L).build());
+        assertThat(this.eventRepository.findRemainingSeatsById(eventId)).contains(0);
+
+        this.enrollmentService.cancel(first);
+
+        assertThat(this.eventRepository.findRemainingSeatsById(eventId)).contains(1);
+        Enrollment third = this.enrollmentService.enroll(eventId, Account.builder().id(3L).build()).getEnrollment();
+        assertThat(third.getStatus()).isEqualTo(EnrollmentStatus.ENROLLED);
+        assertThat(this.enrollmentService.enroll(eventId, Account.builder().id(4L).build()).getEnrollment().getStatus())
+            .isEqualTo(EnrollmentStatus.WAITLISTED);
+    }
+
+    @Test
+    @TestDescription("대기 순번은 먼저 대기한 순서대로 매겨지는 테스트")
+    public void waitlistPosition() {
+        Long eventId = openEvent(1).getId();
+        Enrollment enrolled = this.enrollmentService.enroll(eventId, Account.builder().id(1L).build()).getEnrollment();
+        Enrollment second = this.enrollmentService.enroll(eventId, Account.builder().id(2L).build()).getEnrollment();
+        Enrollment third = this.enrollmentService.enroll(eventId, Account.builder().id(3L).build()).getEnrollment();
+
+        assertThat(this.enrollmentService.waitlistPosition(enrolled)).isNull();
+        assertThat(this.enrollmentService.waitlistPosition(second)).isEqualTo(1L);
+        assertThat(this.enrollmentService.waitlistPosition(third)).isEqualTo(2L);
+    }
+
+    private Event openEvent(int limitOfEnrollment) {
+        Event event = this.eventRepository.save(Event.builder()
+            .name("Spring")
+            .limitOfEnrollment(limitOfEnrollment)
+            .eventStatus(EventStatus.BEGAN_ENROLLMENT)
+            .build());
+        this.enrollmentPermits.invalidate(event.getId());
+        return event;
+    }
+}
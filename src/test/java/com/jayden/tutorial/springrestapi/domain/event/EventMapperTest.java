@@ -0,0 +1,85 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.jayden.tutorial.springrestapi.common.TestDescription;
+import com.jayden.tutorial.springrestapi.domain.account.Account;
+import org.junit.Test;
+import org.modelmapper.ModelMapper;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventMapperTest {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private final EventMapper eventMapper = new EventMapper();
+
+    @Test
+    @TestDescription("모든 필드가 채워진 DTO를 ModelMapper와 같은 결과로 변환하는 테스트")
+    public void toEventParity() throws IllegalAccessException {
+        EventDto eventDto = fullEventDto();
+        for (Field field : EventDto.class.getDeclaredFields()) {
+            if (field.isSynthetic()) {
+                continue;
+            }
+            field.setAccessible(true);
+            assertThat(field.get(eventDto)).as(field.getName()).isNotNull().isNotEqualTo(0);
+        }
+
+        Event expected = modelMapper.map(eventDto, Event.class);
+        Event actual = eventMapper.toEvent(eventDto);
+
+        assertThat(actual).isEqualToComparingFieldByField(expected);
+    }
+
+    @Test
+    @TestDescription("기존 이벤트에 DTO를 덮어쓸 때 ModelMapper와 같은 결과인지 확인하는 테스트")
+    public void updateParity() {
+        EventDto eventDto = fullEventDto();
+        eventDto.setLocation(null);
+
+        Event expected = existingEvent();
+        modelMapper.map(eventDto, expected);
+        Event actual = existingEvent();
+        eventMapper.update(eventDto, actual);
+
+        assertThat(actual).isEqualToComparingFieldByField(expected);
+        assertThat(actual.getId()).isEqualTo(10L);
+        assertThat(actual.getEventStatus()).isEqualTo(EventStatus.PUBLISHED);
+        assertThat(actual.getManager().getId()).isEqualTo(1L);
+    }
+
+    private EventDto fullEventDto() {
+        return EventDto.builder()
+            .name("Spring")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2019, 10, 1, 0, 0, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2019, 10, 2, 23, 59, 59))
+            .beginEventDateTime(LocalDateTime.of(2019, 11, 1, 10, 0, 0))
+            .endEventDateTime(LocalDateTime.of(2019, 11, 2, 18, 0, 0))
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .location("마곡역 이매너스")
+            .build();
+    }
+
+    private Event existingEvent() {
+        return Event.builder()
+            .id(10L)
+            .name("Old")
+            .description("Old description")
+            .location("Old location")
+            .basePrice(1)
+            .maxPrice(2)
+            .limitOfEnrollment(3)
+            .free(false)
+            .offline(true)
+            .eventStatus(EventStatus.PUBLISHED)
+            .manager(Account.builder().id(1L).build())
+            .version(4L)
+            .build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jayden.tutorial.springrestapi.common.TestDescription;
+import com.jayden.tutorial.springrestapi.domain.account.Account;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.RelProvider;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.core.DefaultRelProvider;
+import org.springframework.hateoas.hal.Jackson2HalModule;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventSerializerTest {
+
+    private static final Link PROFILE = new Link("/docs/index.html#resources-events-get").withRel("profile");
+
+    private final RelProvider relProvider = new DefaultRelProvider();
+
+    private final ObjectMapper halObjectMapper = halObjectMapper();
+
+    private final ObjectMapper streamingObjectMapper = halObjectMapper()
+        .registerModule(new EventJsonModule(relProvider.getCollectionResourceRelFor(Event.class)));
+
+    @Before
+    public void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setScheme("http");
+        request.setServerName("localhost");
+        request.setServerPort(80);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @After
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @TestDescription("이벤트 리소스가 골든 파일과 같은 JSON으로 직렬화되는 테스트")
+    public void eventResourceMatchesGoldenFile() throws IOException {
+        EventResource eventResource = new EventResource(event(1L), PROFILE);
+        String golden = StreamUtils.copyToString(
+            new ClassPathResource("golden/event-resource.json").getInputStream(), StandardCharsets.UTF_8).trim();
+
+        assertThat(halObjectMapper.writeValueAsString(eventResource)).isEqualTo(golden);
+        assertThat(streamingObjectMapper.writeValueAsString(eventResource)).isEqualTo(golden);
+    }
+
+    @Test
+    @TestDescription("값이 비어 있는 이벤트도 기본 직렬화와 같은 JSON인지 확인하는 테스트")
+    public void emptyEventParity() throws IOException {
+        Event event = new Event();
+
+        assertSameJson(event);
+        assertSameJson(new EventResource(Event.builder().id(2L).build()));
+    }
+
+    @Test
+    @TestDescription("페이지 이벤트 목록이 기본 HAL 직렬화와 같은 JSON인지 확인하는 테스트")
+    public void pagedResourcesParity() throws IOException {
+        List<EventResource> content = List.of(new EventResource(event(1L)), new EventResource(event(2L)));
+        PagedResources<EventResource> pagedResources = new PagedResources<>(content,
+            new PagedResources.PageMetadata(2, 0, 10),
+            new Link("http://localhost/api/events?page=0&size=2"),
+            new Link("http://localhost/api/events?page=1&size=2", Link.REL_NEXT),
+            new Link("http://localhost/api/events?page=4&size=2", Link.REL_LAST),
+            PROFILE);
+
+        assertSameJson(pagedResources);
+    }
+
+    @Test
+    @TestDescription("빈 페이지와 페이지 정보가 없는 목록도 기본 HAL 직렬화와 같은 JSON인지 확인하는 테스트")
+    public void resourcesParity() throws IOException {
+        assertSameJson(new PagedResources<EventResource>(Collections.emptyList(),
+            new PagedResources.PageMetadata(10, 3, 20), PROFILE));
+        assertSameJson(new Resources<>(List.of(new EventResource(event(3L))),
+            new Link("http://localhost/api/events?cursor=abc", Link.REL_NEXT),
+            new Link("http://localhost/api/events?cursor=def", Link.REL_NEXT),
+            new Link("http://localhost/api/events{?cursor}", "search"),
+            PROFILE.withTitle("event list")));
+    }
+
+    private void assertSameJson(Object value) throws IOException {
+        assertThat(streamingObjectMapper.writeValueAsString(value))
+            .isEqualTo(halObjectMapper.writeValueAsString(value));
+    }
+
+    private ObjectMapper halObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.registerModule(new Jackson2HalModule());
+        objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(relProvider, null, null));
+        return objectMapper;
+    }
+
+    private Event event(Long id) {
+        return Event.builder()
+            .id(id)
+            .name("Spring")
+            .description("REST API Development with Spring")
+            .beginEnrollmentDateTime(LocalDateTime.of(2019, 10, 1, 9, 0, 0))
+            .closeEnrollmentDateTime(LocalDateTime.of(2019, 10, 2, 23, 59, 59))
+            .beginEventDateTime(LocalDateTime.of(2019, 11, 1, 10, 30, 15))
+            .endEventDateTime(LocalDateTime.of(2019, 11, 2, 18, 0, 0))
+            .location("Gangnam Station D2 Startup Factory")
+            .basePrice(100)
+            .maxPrice(200)
+            .limitOfEnrollment(100)
+            .offline(true)
+            .free(false)
+            .eventStatus(EventStatus.DRAFT)
+            .manager(Account.builder().id(7L).build())
+            .build();
+    }
+}
@@ -0,0 +1,182 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.common.TestDescription;
+import com.jayden.tutorial.springrestapi.domain.event.infra.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives its own scheduler on a clock the test sets, far enough in the future that the application's scheduler
+ * never touches the events of this test.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class EventStatusSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2100, 1, 1, 9, 0);
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventStatusWriter eventStatusWriter;
+
+    @Autowired
+    AppProperties appProperties;
+
+    private MutableClock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EventStatusScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        this.eventRepository.deleteAll();
+        this.clock = new MutableClock(NOW);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.scheduler = newScheduler();
+    }
+
+    @Test
+    @TestDescription("신청 시작 시간과 마감 시간이 지나면 이벤트 상태가 바뀌는 테스트")
+    public void openAndCloseOnTime() {
+        Event published = save(EventStatus.PUBLISHED, NOW.plusHours(1), NOW.plusHours(2));
+        Event draft = save(EventStatus.DRAFT, NOW.plusHours(1), NOW.plusHours(2));
+        this.scheduler.reload();
+        assertThat(this.scheduler.getTimeline().size()).isEqualTo(2);
+
+        this.clock.set(NOW.plusMinutes(59));
+        assertThat(this.scheduler.advance()).isZero();
+        assertThat(statusOf(published)).isEqualTo(EventStatus.PUBLISHED);
+
+        this.clock.set(NOW.plusHours(1));
+        assertThat(this.scheduler.advance()).isEqualTo(1);
+        Event opened = this.eventRepository.findById(published.getId()).orElseThrow();
+        assertThat(opened.getEventStatus()).isEqualTo(EventStatus.BEGAN_ENROLLMENT);
+        assertThat(opened.getVersion()).isGreaterThan(published.getVersion());
+
+        this.clock.set(NOW.plusHours(3));
+        assertThat(this.scheduler.advance()).isEqualTo(1);
+        assertThat(statusOf(published)).isEqualTo(EventStatus.CLOSED_ENROLLMENT);
+        assertThat(statusOf(draft)).isEqualTo(EventStatus.DRAFT);
+        assertThat(this.scheduler.getTimeline().size()).isZero();
+        assertThat(transitions(EventStatus.BEGAN_ENROLLMENT)).isEqualTo(1);
+        assertThat(transitions(EventStatus.CLOSED_ENROLLMENT)).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("애플리케이션이 멈춘 동안 지난 전환은 재시작할 때 한 번에 적용되는 테스트")
+    public void catchUpOnRestart() {
+        Event closed = save(EventStatus.PUBLISHED, NOW.minusHours(2), NOW.minusHours(1));
+        Event open = save(EventStatus.PUBLISHED, NOW.minusHours(1), NOW.plusHours(1));
+        Event enrolling = save(EventStatus.BEGAN_ENROLLMENT, NOW.minusHours(3), NOW.minusMinutes(1));
+        Event upcoming = save(EventStatus.PUBLISHED, NOW.plusHours(1), NOW.plusHours(2));
+
+        this.scheduler.reload();
+        assertThat(statusOf(closed)).isEqualTo(EventStatus.CLOSED_ENROLLMENT);
+        assertThat(statusOf(open)).isEqualTo(EventStatus.BEGAN_ENROLLMENT);
+        assertThat(statusOf(enrolling)).isEqualTo(EventStatus.CLOSED_ENROLLMENT);
+        assertThat(statusOf(upcoming)).isEqualTo(EventStatus.PUBLISHED);
+        assertThat(this.scheduler.getTimeline().size()).isEqualTo(3);
+
+        Long version = this.eventRepository.findById(open.getId()).orElseThrow().getVersion();
+        EventStatusScheduler restarted = newScheduler();
+        restarted.reload();
+        assertThat(this.eventRepository.findById(open.getId()).orElseThrow().getVersion()).isEqualTo(version);
+
+        this.clock.set(NOW.plusHours(2));
+        assertThat(restarted.advance()).isEqualTo(2);
+        assertThat(statusOf(open)).isEqualTo(EventStatus.CLOSED_ENROLLMENT);
+        assertThat(statusOf(upcoming)).isEqualTo(EventStatus.CLOSED_ENROLLMENT);
+    }
+
+    @Test
+    @TestDescription("신청 시작 시간이 미뤄진 이벤트는 예전 시간에 상태가 바뀌지 않는 테스트")
+    public void ignoreStaleTransition() {
+        Event event = save(EventStatus.PUBLISHED, NOW.plusHours(1), NOW.plusHours(3));
+        this.scheduler.reload();
+
+        event = this.eventRepository.findById(event.getId()).orElseThrow();
+        event.setBeginEnrollmentDateTime(NOW.plusHours(2));
+        event = this.eventRepository.save(event);
+        this.scheduler.schedule(event);
+
+        this.clock.set(NOW.plusHours(1));
+        assertThat(this.scheduler.advance()).isZero();
+        assertThat(statusOf(event)).isEqualTo(EventStatus.PUBLISHED);
+
+        this.clock.set(NOW.plusHours(2));
+        assertThat(this.scheduler.advance()).isEqualTo(1);
+        assertThat(statusOf(event)).isEqualTo(EventStatus.BEGAN_ENROLLMENT);
+    }
+
+    private EventStatusScheduler newScheduler() {
+        return new EventStatusScheduler(this.eventStatusWriter, this.clock, this.appProperties, this.meterRegistry);
+    }
+
+    private Event save(EventStatus status, LocalDateTime beginEnrollment, LocalDateTime closeEnrollment) {
+        return this.eventRepository.save(Event.builder()
+            .name("Spring")
+            .beginEnrollmentDateTime(beginEnrollment)
+            .closeEnrollmentDateTime(closeEnrollment)
+            .beginEventDateTime(closeEnrollment.plusDays(1))
+            .endEventDateTime(closeEnrollment.plusDays(2))
+            .limitOfEnrollment(100)
+            .eventStatus(status)
+            .build());
+    }
+
+    private EventStatus statusOf(Event event) {
+        return this.eventRepository.findStatusById(event.getId()).orElseThrow();
+    }
+
+    private double transitions(EventStatus status) {
+        return this.meterRegistry.get("events.status.transitions").tag("status", status.name()).counter().count();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private final ZoneId zone = ZoneId.systemDefault();
+
+        private volatile Instant instant;
+
+        MutableClock(LocalDateTime now) {
+            set(now);
+        }
+
+        void set(LocalDateTime now) {
+            this.instant = now.atZone(this.zone).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return this.zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return Clock.fixed(this.instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+    }
+}
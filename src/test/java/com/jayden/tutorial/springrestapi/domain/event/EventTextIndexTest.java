@@ -0,0 +1,94 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.jayden.tutorial.springrestapi.common.TestDescription;
+import org.junit.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventTextIndexTest {
+
+    private final EventTextIndex eventTextIndex = new EventTextIndex();
+
+    @Test
+    @TestDescription("이름에 키워드가 있는 이벤트가 설명에만 있는 이벤트보다 먼저 검색되는 테스트")
+    public void rankNameAboveDescription() {
+        eventTextIndex.index(event(1L, 0L, "Java meetup", "Spring Boot and REST"));
+        eventTextIndex.index(event(2L, 0L, "Spring REST API", "hands-on workshop"));
+        eventTextIndex.index(event(3L, 0L, "Kotlin night", "coroutines"));
+
+        Page<Long> page = eventTextIndex.search("spring", PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).containsExactly(2L, 1L);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @TestDescription("모든 단어를 포함한 이벤트만 검색되고 *로 끝나는 단어는 접두어로 검색되는 테스트")
+    public void termAndPrefixClauses() {
+        eventTextIndex.index(event(1L, 0L, "Spring Boot", "마곡역 스터디"));
+        eventTextIndex.index(event(2L, 0L, "Spring Batch", "강남역 스터디"));
+        eventTextIndex.index(event(3L, 0L, "Bootstrap", "CSS"));
+
+        assertThat(eventTextIndex.search("spring boot", PageRequest.of(0, 10)).getContent()).containsExactly(1L);
+        assertThat(eventTextIndex.search("boot", PageRequest.of(0, 10)).getContent()).containsExactly(1L);
+        assertThat(eventTextIndex.search("boot*", PageRequest.of(0, 10)).getContent()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(eventTextIndex.search("spring 강남*", PageRequest.of(0, 10)).getContent()).containsExactly(2L);
+        assertThat(eventTextIndex.search("*", PageRequest.of(0, 10)).getContent()).isEmpty();
+    }
+
+    @Test
+    @TestDescription("이벤트를 다시 색인하면 이전 단어로는 검색되지 않고 오래된 버전은 무시되는 테스트")
+    public void reindexReplacesTerms() {
+        eventTextIndex.index(event(1L, 0L, "Spring", "workshop"));
+        eventTextIndex.index(event(1L, 1L, "Kotlin", "workshop"));
+        eventTextIndex.index(event(1L, 0L, "Spring", "workshop"));
+
+        assertThat(eventTextIndex.search("spring", PageRequest.of(0, 10)).getContent()).isEmpty();
+        assertThat(eventTextIndex.search("kotlin workshop", PageRequest.of(0, 10)).getContent()).containsExactly(1L);
+        assertThat(eventTextIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    @TestDescription("다시 색인해 버려진 단어가 접두어 검색의 단어 수 제한을 차지하지 않는 테스트")
+    public void droppedTermsLeaveThePrefixBudget() {
+        for (long id = 1; id <= EventTextIndex.MAX_PREFIX_TERMS; id++) {
+            eventTextIndex.index(event(id, 0L, String.format("spring%03d", id), "workshop"));
+            eventTextIndex.index(event(id, 1L, "kotlin", "workshop"));
+        }
+        eventTextIndex.index(event(1_000L, 0L, "springboot", "workshop"));
+
+        assertThat(eventTextIndex.search("spring*", PageRequest.of(0, 10)).getContent()).containsExactly(1_000L);
+    }
+
+    @Test
+    @TestDescription("병렬로 색인한 이벤트를 관련도와 id 순서로 페이지 나누어 조회하는 테스트")
+    public void parallelIndexAndPaging() {
+        List<Event> events = LongStream.rangeClosed(1, 1_000)
+            .mapToObj(id -> event(id, 0L, "event " + id, id % 2 == 0 ? "even spring" : "odd"))
+            .collect(Collectors.toList());
+        eventTextIndex.indexAll(events);
+
+        Page<Long> page = eventTextIndex.search("spring", PageRequest.of(2, 10));
+
+        assertThat(eventTextIndex.size()).isEqualTo(1_000);
+        assertThat(page.getTotalElements()).isEqualTo(500);
+        assertThat(page.getContent()).containsExactly(42L, 44L, 46L, 48L, 50L, 52L, 54L, 56L, 58L, 60L);
+        assertThat(eventTextIndex.search("spring", PageRequest.of(50, 10)).getContent()).isEmpty();
+    }
+
+    private Event event(Long id, Long version, String name, String description) {
+        Event event = Event.builder()
+            .id(id)
+            .name(name)
+            .description(description)
+            .build();
+        event.setVersion(version);
+        return event;
+    }
+}
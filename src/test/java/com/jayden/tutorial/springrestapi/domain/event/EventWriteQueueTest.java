@@ -0,0 +1,146 @@
+package com.jayden.tutorial.springrestapi.domain.event;
+
+import com.jayden.tutorial.springrestapi.common.AppProperties;
+import com.jayden.tutorial.springrestapi.common.TestDescription;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventWriteQueueTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final AtomicLong ids = new AtomicLong();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EventCountCache eventCountCache;
+
+    private EventWriteQueue eventWriteQueue;
+
+    @After
+    public void tearDown() throws InterruptedException {
+        release.countDown();
+        if (eventWriteQueue != null) {
+            eventWriteQueue.destroy();
+        }
+        if (eventCountCache != null) {
+            eventCountCache.destroy();
+        }
+    }
+
+    @Test
+    @TestDescription("대기열이 가득 차면 이벤트를 거절하고 대기 중인 이벤트는 배치로 저장되는 테스트")
+    public void rejectWhenQueueIsFull() throws Exception {
+        this.eventWriteQueue = eventWriteQueue(1, blockingWriter());
+
+        EventWriteTicket writing = this.eventWriteQueue.offer(new Event()).orElseThrow();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        EventWriteTicket queued = this.eventWriteQueue.offer(new Event()).orElseThrow();
+
+        assertThat(this.eventWriteQueue.offer(new Event())).isEmpty();
+        assertThat(meterRegistry.get("events.write.behind.rejected").counter().count()).isEqualTo(1);
+        assertThat(writing.getStatus()).isEqualTo(EventWriteTicket.Status.PENDING);
+
+        release.countDown();
+        awaitStatus(queued, EventWriteTicket.Status.CREATED);
+        assertThat(writing.getStatus()).isEqualTo(EventWriteTicket.Status.CREATED);
+        assertThat(this.eventWriteQueue.ticket(queued.getId())).contains(queued);
+        assertThat(queued.getEventId()).isEqualTo(2L);
+    }
+
+    @Test
+    @TestDescription("배치 저장이 실패하면 한 건씩 다시 저장해서 실패한 이벤트만 실패 처리하는 테스트")
+    public void retryFailedBatchOneByOne() throws Exception {
+        Event invalid = Event.builder().name("invalid").build();
+        this.eventWriteQueue = eventWriteQueue(10, new EventBulkWriter(null) {
+
+            @Override
+            public List<Event> write(List<Event> events) {
+                started.countDown();
+                awaitRelease();
+                if (events.stream().anyMatch(event -> event == invalid)) {
+                    throw new IllegalStateException("constraint violation");
+                }
+                events.forEach(event -> event.setId(ids.incrementAndGet()));
+                return events;
+            }
+        });
+
+        EventWriteTicket first = this.eventWriteQueue.offer(new Event()).orElseThrow();
+        EventWriteTicket failing = this.eventWriteQueue.offer(invalid).orElseThrow();
+        EventWriteTicket last = this.eventWriteQueue.offer(new Event()).orElseThrow();
+        release.countDown();
+
+        awaitStatus(last, EventWriteTicket.Status.CREATED);
+        assertThat(first.getStatus()).isEqualTo(EventWriteTicket.Status.CREATED);
+        awaitStatus(failing, EventWriteTicket.Status.FAILED);
+    }
+
+    @Test
+    @TestDescription("종료할 때 대기열에 남은 이벤트를 모두 저장하는 테스트")
+    public void drainOnDestroy() throws Exception {
+        this.eventWriteQueue = eventWriteQueue(10, blockingWriter());
+
+        Optional<EventWriteTicket> writing = this.eventWriteQueue.offer(new Event());
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Optional<EventWriteTicket> queued = this.eventWriteQueue.offer(new Event());
+
+        release.countDown();
+        this.eventWriteQueue.destroy();
+
+        assertThat(writing.orElseThrow().getStatus()).isEqualTo(EventWriteTicket.Status.CREATED);
+        assertThat(queued.orElseThrow().getStatus()).isEqualTo(EventWriteTicket.Status.CREATED);
+        assertThat(this.eventWriteQueue.offer(new Event())).isEmpty();
+    }
+
+    private EventWriteQueue eventWriteQueue(int capacity, EventBulkWriter eventBulkWriter) {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setEventWriteBehind(true);
+        appProperties.setEventWriteQueueCapacity(capacity);
+        this.eventCountCache = new EventCountCache(null, appProperties);
+        EventWriteQueue eventWriteQueue = new EventWriteQueue(appProperties, eventBulkWriter, this.eventCountCache,
+            new EventTextIndex(), meterRegistry);
+        eventWriteQueue.afterPropertiesSet();
+        return eventWriteQueue;
+    }
+
+    private EventBulkWriter blockingWriter() {
+        return new EventBulkWriter(null) {
+
+            @Override
+            public List<Event> write(List<Event> events) {
+                started.countDown();
+                awaitRelease();
+                events.forEach(event -> event.setId(ids.incrementAndGet()));
+                return events;
+            }
+        };
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitStatus(EventWriteTicket ticket, EventWriteTicket.Status status) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (ticket.getStatus() != status && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(ticket.getStatus()).isEqualTo(status);
+    }
+}
@@ -0,0 +1,95 @@
+package com.jayden.tutorial.springrestapi.domain.event.infra;
+
+import com.jayden.tutorial.springrestapi.common.TestDescription;
+import com.jayden.tutorial.springrestapi.domain.event.Event;
+import com.jayden.tutorial.springrestapi.domain.event.EventSearch;
+import com.jayden.tutorial.springrestapi.domain.event.EventStatus;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class EventRepositoryTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Before
+    public void setUp() {
+        this.eventRepository.deleteAll();
+    }
+
+    @Test
+    @TestDescription("검색 조건을 모두 만족하는 이벤트만 조회하는 테스트")
+    public void findAllBySearch() {
+        IntStream.range(0, 20).forEach(index -> this.eventRepository.save(Event.builder()
+            .name("event " + index)
+            .beginEnrollmentDateTime(LocalDateTime.of(2019, 10, 1, 0, 0).plusDays(index))
+            .beginEventDateTime(LocalDateTime.of(2019, 11, 1, 10, 0).plusDays(index))
+            .basePrice(index * 10)
+            .maxPrice(index * 20)
+            .free(index % 2 == 0)
+            .offline(index % 4 == 0)
+            .eventStatus(index < 10 ? EventStatus.PUBLISHED : EventStatus.DRAFT)
+            .build()));
+
+        EventSearch search = EventSearch.builder()
+            .eventStatus(EventStatus.PUBLISHED)
+            .free(true)
+            .basePriceFrom(20)
+            .eventTo(LocalDateTime.of(2019, 11, 9, 10, 0))
+            .build();
+        Page<Event> page = this.eventRepository.findAll(search.toSpecification(), PageRequest.of(0, 10));
+
+        // index 2, 4, 6
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).allSatisfy(event -> {
+            assertThat(event.getEventStatus()).isEqualTo(EventStatus.PUBLISHED);
+            assertThat(event.isFree()).isTrue();
+            assertThat(event.getBasePrice()).isGreaterThanOrEqualTo(20);
+        });
+        assertThat(EventSearch.builder().build().isEmpty()).isTrue();
+        assertThat(search.isEmpty()).isFalse();
+    }
+
+    @Test
+    @TestDescription("검색 조건마다 H2 실행 계획이 해당 인덱스를 사용하는지 확인하는 테스트")
+    public void searchPredicatesUseIndexes() {
+        assertIndexUsed("idx_event_status_id", "event_status = ?", "PUBLISHED");
+        assertIndexUsed("idx_event_free_id", "free = ?", true);
+        assertIndexUsed("idx_event_offline_id", "offline = ?", false);
+        assertIndexUsed("idx_event_base_price_id", "base_price between ? and ?", 100, 200);
+        assertIndexUsed("idx_event_max_price_id", "max_price >= ?", 100);
+        assertIndexUsed("idx_event_begin_enrollment_id", "begin_enrollment_date_time >= ? and begin_enrollment_date_time < ?",
+            LocalDateTime.of(2019, 10, 1, 0, 0), LocalDateTime.of(2019, 11, 1, 0, 0));
+        assertIndexUsed("idx_event_begin_event_id", "begin_event_date_time < ?", LocalDateTime.of(2019, 11, 1, 0, 0));
+        // the foreign key index of manager_id already serves this lookup
+        String plan = explain("manager_id = ?", 1L);
+        assertThat(plan.toLowerCase()).doesNotContain("tablescan");
+    }
+
+    private void assertIndexUsed(String index, String predicate, Object... args) {
+        assertThat(explain(predicate, args)).as(predicate).containsIgnoringCase(index);
+    }
+
+    private String explain(String predicate, Object... args) {
+        return this.jdbcTemplate.queryForObject("explain select * from event where " + predicate, String.class, args);
+    }
+}